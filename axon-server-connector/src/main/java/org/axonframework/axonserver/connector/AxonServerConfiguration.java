@@ -22,8 +22,11 @@
 
 import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -133,6 +136,13 @@ public class AxonServerConfiguration {
      */
     private int queryThreads = 10;
 
+    /**
+     * Isolated execution lanes for incoming queries, keyed by lane name. Queries of which the name is assigned to a
+     * lane are executed by the threads of that lane, instead of by the {@link #queryThreads shared query threads}.
+     * Defaults to no lanes.
+     */
+    private Map<String, QueryLaneConfiguration> queryLanes = new HashMap<>();
+
     /**
      * Interval (in ms.) application sends status updates on event processors to AxonServer.
      */
@@ -388,6 +398,14 @@ public void setQueryThreads(int queryThreads) {
         this.queryThreads = queryThreads;
     }
 
+    public Map<String, QueryLaneConfiguration> getQueryLanes() {
+        return queryLanes;
+    }
+
+    public void setQueryLanes(Map<String, QueryLaneConfiguration> queryLanes) {
+        this.queryLanes = queryLanes;
+    }
+
     public int getProcessorsNotificationRate() {
         return processorsNotificationRate;
     }
@@ -615,6 +633,74 @@ public void setNewPermitsThreshold(Integer newPermitsThreshold) {
         }
     }
 
+    /**
+     * Configuration class for an isolated execution lane of incoming queries. A lane executes the queries with the
+     * configured names on its own threads, so that slow queries assigned to one lane do not delay the queries of other
+     * lanes. A lane accepts up to its number of threads plus its queue capacity of queries at once. Queries exceeding
+     * that bound are rejected straight away, instead of waiting behind the queries already accepted.
+     *
+     * @since 4.6
+     */
+    public static class QueryLaneConfiguration {
+
+        /**
+         * The names of the queries executed in this lane.
+         */
+        private List<String> queryNames = new ArrayList<>();
+
+        /**
+         * Number of threads executing the queries of this lane. Defaults to {@code 1}.
+         */
+        private int threads = 1;
+
+        /**
+         * Number of queries of this lane waiting for a thread, before further queries of this lane are rejected.
+         * Defaults to {@code 1000}.
+         */
+        private int queueCapacity = 1000;
+
+        public QueryLaneConfiguration() {
+        }
+
+        /**
+         * Construct a {@link QueryLaneConfiguration}.
+         *
+         * @param queryNames    the names of the queries executed in this lane
+         * @param threads       number of threads executing the queries of this lane
+         * @param queueCapacity number of queries of this lane waiting for a thread, before further queries are
+         *                      rejected
+         */
+        public QueryLaneConfiguration(List<String> queryNames, int threads, int queueCapacity) {
+            this.queryNames = queryNames;
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public List<String> getQueryNames() {
+            return queryNames;
+        }
+
+        public void setQueryNames(List<String> queryNames) {
+            this.queryNames = queryNames;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
     public static class HeartbeatConfiguration {
 
         private static final long DEFAULT_INTERVAL = 10_000;
@@ -717,6 +803,13 @@ public Builder queryFlowControl(int initialNrOfPermits, int nrOfNewPermits, int
             return this;
         }
 
+        public Builder queryLane(String laneName, int threads, int queueCapacity, String... queryNames) {
+            instance.queryLanes.put(laneName, new QueryLaneConfiguration(new ArrayList<>(Arrays.asList(queryNames)),
+                                                                         threads,
+                                                                         queueCapacity));
+            return this;
+        }
+
         public Builder eventFlowControl(int initialNrOfPermits, int nrOfNewPermits, int newPermitsThreshold) {
             instance.setEventFlowControl(new FlowControlConfiguration(initialNrOfPermits,
                                                                       nrOfNewPermits,
@@ -25,11 +25,11 @@
 import org.axonframework.axonserver.connector.AxonServerConfiguration;
 import org.axonframework.axonserver.connector.ErrorCode;
 import org.axonframework.axonserver.connector.util.ExceptionSerializer;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.axonserver.connector.util.GrpcMetaDataConverter;
 import org.axonframework.axonserver.connector.util.GrpcMetadataSerializer;
 import org.axonframework.axonserver.connector.util.GrpcObjectSerializer;
 import org.axonframework.axonserver.connector.util.GrpcPayloadSerializer;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.commandhandling.CommandResultMessage;
 import org.axonframework.commandhandling.GenericCommandResultMessage;
@@ -158,7 +158,9 @@ public <R> CommandResultMessage<R> deserialize(CommandResponse commandResponse)
 
         if (commandResponse.hasErrorMessage()) {
             Object exceptionDetails = commandResponse.hasPayload()
-                    ? messageSerializer.deserialize(new GrpcSerializedObject(commandResponse.getPayload()))
+                    ? messageSerializer.deserialize(GrpcByteBufferSerializedObject.forSerializer(
+                            commandResponse.getPayload(), messageSerializer
+                    ))
                     : null;
             AxonException exception = ErrorCode.getFromCode(commandResponse.getErrorCode())
                                                .convert(commandResponse.getErrorMessage(), () -> exceptionDetails);
@@ -172,7 +174,9 @@ public <R> CommandResultMessage<R> deserialize(CommandResponse commandResponse)
         Message<R> response = commandResponse.hasPayload()
                 ? new SerializedMessage<>(commandResponse.getMessageIdentifier(),
                                           new LazyDeserializingObject<>(
-                                                  new GrpcSerializedObject(commandResponse.getPayload()),
+                                                  GrpcByteBufferSerializedObject.forSerializer(
+                                                          commandResponse.getPayload(), messageSerializer
+                                                  ),
                                                   messageSerializer
                                           ),
                                           new LazyDeserializingObject<>(metaData))
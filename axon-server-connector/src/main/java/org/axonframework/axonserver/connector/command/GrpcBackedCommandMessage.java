@@ -17,8 +17,8 @@
 package org.axonframework.axonserver.connector.command;
 
 import io.axoniq.axonserver.grpc.command.Command;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.axonserver.connector.util.GrpcMetaData;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.serialization.LazyDeserializingObject;
@@ -50,7 +50,9 @@
      */
     public GrpcBackedCommandMessage(Command command, Serializer serializer) {
         this(command,
-             new LazyDeserializingObject<>(new GrpcSerializedObject(command.getPayload()), serializer),
+             new LazyDeserializingObject<>(
+                     GrpcByteBufferSerializedObject.forSerializer(command.getPayload(), serializer), serializer
+             ),
              new GrpcMetaData(command.getMetaDataMap(), serializer));
     }
 
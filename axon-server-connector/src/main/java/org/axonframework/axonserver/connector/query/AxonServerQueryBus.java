@@ -72,14 +72,18 @@
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -87,6 +91,8 @@
 
 import static org.axonframework.axonserver.connector.util.ProcessingInstructionHelper.priority;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertPositive;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
 
 /**
  * Axon {@link QueryBus} implementation that connects to Axon Server to submit and receive queries and query responses.
@@ -118,6 +124,7 @@ public class AxonServerQueryBus implements QueryBus, Distributed<QueryBus> {
     private final TargetContextResolver<? super QueryMessage<?, ?>> targetContextResolver;
     private final ShutdownLatch shutdownLatch = new ShutdownLatch();
     private final ExecutorService queryExecutor;
+    private final Map<String, QueryLane> queryLanes;
     private final QueryHandler localSegmentAdapter;
     private final String context;
 
@@ -156,8 +163,14 @@ public AxonServerQueryBus(Builder builder) {
 
         dispatchInterceptors = new DispatchInterceptors<>();
 
-        PriorityBlockingQueue<Runnable> queryProcessQueue = new PriorityBlockingQueue<>(
-                QUERY_QUEUE_CAPACITY,
+        queryExecutor = builder.executorServiceBuilder.apply(configuration, priorityQueue(QUERY_QUEUE_CAPACITY));
+        queryLanes = buildQueryLanes(configuration.getQueryLanes());
+        localSegmentAdapter = new LocalSegmentAdapter();
+    }
+
+    private static PriorityBlockingQueue<Runnable> priorityQueue(int initialCapacity) {
+        return new PriorityBlockingQueue<>(
+                initialCapacity,
                 Comparator.comparingLong(
                         r -> r instanceof QueryProcessingTask ? ((QueryProcessingTask) r).getPriority() :
                                 r instanceof ResponseProcessingTask
@@ -165,8 +178,29 @@ public AxonServerQueryBus(Builder builder) {
                                         : DEFAULT_PRIORITY
                 ).reversed()
         );
-        queryExecutor = builder.executorServiceBuilder.apply(configuration, queryProcessQueue);
-        localSegmentAdapter = new LocalSegmentAdapter();
+    }
+
+    private static Map<String, QueryLane> buildQueryLanes(
+            Map<String, AxonServerConfiguration.QueryLaneConfiguration> laneConfigurations
+    ) {
+        Map<String, QueryLane> lanesByQueryName = new HashMap<>();
+        laneConfigurations.forEach((laneName, laneConfiguration) -> {
+            assertStrictPositive(laneConfiguration.getThreads(),
+                                 "The number of threads of query lane [" + laneName + "] should be positive");
+            assertPositive(laneConfiguration.getQueueCapacity(),
+                           "The queue capacity of query lane [" + laneName + "] may not be negative");
+            QueryLane lane = new QueryLane(laneName, laneConfiguration);
+            for (String queryName : laneConfiguration.getQueryNames()) {
+                QueryLane existingLane = lanesByQueryName.put(queryName, lane);
+                if (existingLane != null) {
+                    throw new AxonConfigurationException(String.format(
+                            "Query [%s] is assigned to both query lane [%s] and [%s]",
+                            queryName, existingLane.name, laneName
+                    ));
+                }
+            }
+        });
+        return lanesByQueryName;
     }
 
     /**
@@ -322,14 +356,16 @@ public Registration registerDispatchInterceptor(
     }
 
     /**
-     * Disconnect the query bus from Axon Server, by unsubscribing all known query handlers. This shutdown operation is
-     * performed in the {@link Phase#INBOUND_QUERY_CONNECTOR} phase.
+     * Disconnect the query bus from Axon Server, by unsubscribing all known query handlers. Also shuts down the
+     * executors of the configured query lanes, allowing queries which are already accepted by a lane to complete. This
+     * shutdown operation is performed in the {@link Phase#INBOUND_QUERY_CONNECTOR} phase.
      */
     @ShutdownHandler(phase = Phase.INBOUND_QUERY_CONNECTOR)
     public void disconnect() {
         if (axonServerConnectionManager.isConnected(context)) {
             axonServerConnectionManager.getConnection(context).queryChannel().prepareDisconnect();
         }
+        queryLanes.values().stream().distinct().forEach(QueryLane::shutdown);
     }
 
     /**
@@ -355,7 +391,23 @@ public void handle(QueryRequest query, ReplyChannel<QueryResponse> responseHandl
             QueryProcessingTask processingTask = new QueryProcessingTask(
                     localSegment, query, responseHandler, serializer, configuration.getClientId()
             );
-            queryExecutor.submit(processingTask);
+            QueryLane lane = queryLanes.get(query.getQuery());
+            if (lane == null) {
+                // executing rather than submitting keeps the task itself in the priority queue
+                queryExecutor.execute(processingTask);
+            } else if (!lane.tryExecute(processingTask)) {
+                logger.info("Rejecting query [{}], as query lane [{}] is at its capacity of {} queries.",
+                            query.getQuery(), lane.name, lane.capacity);
+                RejectedExecutionException rejection = new RejectedExecutionException(String.format(
+                        "Query lane [%s] is at its capacity of %d queries", lane.name, lane.capacity
+                ));
+                ErrorMessage error = ExceptionSerializer.serialize(configuration.getClientId(), rejection);
+                responseHandler.sendLast(QueryResponse.newBuilder()
+                                                      .setErrorCode(ErrorCode.QUERY_EXECUTION_ERROR.errorCode())
+                                                      .setErrorMessage(error)
+                                                      .setRequestIdentifier(query.getMessageIdentifier())
+                                                      .build());
+            }
         }
 
         @Override
@@ -386,6 +438,54 @@ public io.axoniq.axonserver.connector.Registration registerSubscriptionQuery(Sub
         }
     }
 
+    /**
+     * An isolated execution lane for incoming queries. Executes the {@link QueryProcessingTask}s given to it on its own
+     * threads, in order of their priority, and accepts at most its number of threads plus its queue capacity of queries
+     * at once. A query occupies its slot in the lane until its result is available, including the time its handler
+     * takes to asynchronously complete the response. Idle threads time out, so a lane without queries does not hold on
+     * to any threads.
+     */
+    private static class QueryLane {
+
+        private final String name;
+        private final int capacity;
+        private final ExecutorService executor;
+        private final AtomicInteger acceptedTasks = new AtomicInteger();
+
+        private QueryLane(String name, AxonServerConfiguration.QueryLaneConfiguration configuration) {
+            this.name = name;
+            this.capacity = configuration.getThreads() + configuration.getQueueCapacity();
+            ThreadPoolExecutor laneExecutor =
+                    new ThreadPoolExecutor(configuration.getThreads(),
+                                           configuration.getThreads(),
+                                           ExecutorServiceBuilder.THREAD_KEEP_ALIVE_TIME,
+                                           TimeUnit.MILLISECONDS,
+                                           priorityQueue(Math.max(1, configuration.getQueueCapacity())),
+                                           new AxonThreadFactory("QueryProcessor-" + name));
+            laneExecutor.allowCoreThreadTimeOut(true);
+            this.executor = laneExecutor;
+        }
+
+        private boolean tryExecute(QueryProcessingTask task) {
+            if (acceptedTasks.incrementAndGet() > capacity) {
+                acceptedTasks.decrementAndGet();
+                return false;
+            }
+            task.onCompletion(acceptedTasks::decrementAndGet);
+            try {
+                executor.execute(task);
+                return true;
+            } catch (RejectedExecutionException e) {
+                acceptedTasks.decrementAndGet();
+                return false;
+            }
+        }
+
+        private void shutdown() {
+            executor.shutdown();
+        }
+    }
+
     /**
      * A {@link Runnable} implementation which is given to a {@link PriorityBlockingQueue} to be consumed by the query
      * {@link ExecutorService}, in order. The {@code priority} is retrieved from the provided {@link QueryRequest} and
@@ -399,6 +499,9 @@ private static class QueryProcessingTask implements Runnable {
         private final ReplyChannel<QueryResponse> responseHandler;
         private final QuerySerializer serializer;
         private final String clientId;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private Runnable completionCallback = () -> {
+        };
 
         private QueryProcessingTask(QueryBus localSegment,
                                     QueryRequest queryRequest,
@@ -416,27 +519,38 @@ public long getPriority() {
             return priority;
         }
 
+        /**
+         * Sets the callback to invoke once the result of the query is available, right before its last response is
+         * sent. This may be after {@link #run()} returns, when the query is answered asynchronously.
+         */
+        private void onCompletion(Runnable completionCallback) {
+            this.completionCallback = completionCallback;
+        }
+
         @Override
         public void run() {
+            try {
+                process();
+            } catch (Throwable e) {
+                complete();
+                throw e;
+            }
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                completionCallback.run();
+            }
+        }
+
+        private void process() {
             try {
                 logger.debug("Will process query [{}]", queryRequest.getQuery());
                 QueryMessage<Object, Object> queryMessage = serializer.deserializeRequest(queryRequest);
                 if (ProcessingInstructionHelper.numberOfResults(queryRequest.getProcessingInstructionsList()) == 1) {
                     localSegment.query(queryMessage).whenComplete((r, e) -> {
-                        if (e != null) {
-                            ErrorMessage ex = ExceptionSerializer.serialize(clientId, e);
-                            QueryResponse response =
-                                    QueryResponse.newBuilder()
-                                                 .setErrorCode(ErrorCode.getQueryExecutionErrorCode(e).errorCode())
-                                                 .setErrorMessage(ex)
-                                                 .setRequestIdentifier(queryRequest.getMessageIdentifier())
-                                                 .build();
-                            responseHandler.sendLast(response);
-                        } else {
-                            responseHandler.sendLast(
-                                    serializer.serializeResponse(r, queryRequest.getMessageIdentifier())
-                            );
-                        }
+                        complete();
+                        sendLast(r, e);
                     });
                 } else {
                     Stream<QueryResponseMessage<Object>> result = localSegment.scatterGather(
@@ -447,9 +561,11 @@ public void run() {
                     result.forEach(r -> responseHandler.send(
                             serializer.serializeResponse(r, queryRequest.getMessageIdentifier())
                     ));
+                    complete();
                     responseHandler.complete();
                 }
             } catch (RuntimeException | OutOfDirectMemoryError e) {
+                complete();
                 ErrorMessage ex = ExceptionSerializer.serialize(clientId, e);
                 responseHandler.sendLast(QueryResponse.newBuilder()
                                                       .setErrorCode(ErrorCode.getQueryExecutionErrorCode(e).errorCode())
@@ -460,6 +576,23 @@ public void run() {
                             queryRequest.getQuery(), e);
             }
         }
+
+        private void sendLast(QueryResponseMessage<Object> result, Throwable e) {
+            if (e != null) {
+                ErrorMessage ex = ExceptionSerializer.serialize(clientId, e);
+                QueryResponse response =
+                        QueryResponse.newBuilder()
+                                     .setErrorCode(ErrorCode.getQueryExecutionErrorCode(e).errorCode())
+                                     .setErrorMessage(ex)
+                                     .setRequestIdentifier(queryRequest.getMessageIdentifier())
+                                     .build();
+                responseHandler.sendLast(response);
+            } else {
+                responseHandler.sendLast(
+                        serializer.serializeResponse(result, queryRequest.getMessageIdentifier())
+                );
+            }
+        }
     }
 
     /**
@@ -528,7 +661,9 @@ public Builder localSegment(QueryBus localSegment) {
 
         /**
          * Sets the {@link QueryUpdateEmitter} which can be used to emit updates to queries. Required to honor the
-         * {@link QueryBus#queryUpdateEmitter()} contract.
+         * {@link QueryBus#queryUpdateEmitter()} contract. Subscription queries received from Axon Server register
+         * their update handler with this emitter, hence any conflation of updates configured on the emitter applies
+         * to the updates sent to Axon Server as well.
          *
          * @param updateEmitter a {@link QueryUpdateEmitter} which can be used to emit updates to queries
          * @return the current Builder instance, for fluent interfacing
@@ -17,8 +17,8 @@
 package org.axonframework.axonserver.connector.query;
 
 import io.axoniq.axonserver.grpc.query.QueryRequest;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.axonserver.connector.util.GrpcMetaData;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.queryhandling.QueryMessage;
@@ -58,8 +58,14 @@ public GrpcBackedQueryMessage(QueryRequest queryRequest,
                                   Serializer serializer) {
         this(
                 queryRequest,
-                new LazyDeserializingObject<>(new GrpcSerializedObject(queryRequest.getPayload()), messageSerializer),
-                new LazyDeserializingObject<>(new GrpcSerializedObject(queryRequest.getResponseType()), serializer),
+                new LazyDeserializingObject<>(
+                        GrpcByteBufferSerializedObject.forSerializer(queryRequest.getPayload(), messageSerializer),
+                        messageSerializer
+                ),
+                new LazyDeserializingObject<>(
+                        GrpcByteBufferSerializedObject.forSerializer(queryRequest.getResponseType(), serializer),
+                        serializer
+                ),
                 new GrpcMetaData(queryRequest.getMetaDataMap(), messageSerializer)
         );
     }
@@ -18,11 +18,12 @@
 
 import io.axoniq.axonserver.grpc.query.QueryResponse;
 import org.axonframework.axonserver.connector.ErrorCode;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.axonserver.connector.util.GrpcMetaData;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.messaging.IllegalPayloadAccessException;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.queryhandling.QueryResponseMessage;
+import org.axonframework.serialization.CachingSupplier;
 import org.axonframework.serialization.LazyDeserializingObject;
 import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.Serializer;
@@ -41,13 +42,17 @@
 public class GrpcBackedResponseMessage<R> implements QueryResponseMessage<R> {
 
     private final QueryResponse queryResponse;
-    private final LazyDeserializingObject<R> serializedPayload;
-    private final Throwable exception;
+    private final Supplier<LazyDeserializingObject<R>> serializedPayload;
+    private final Supplier<Throwable> exception;
     private final Supplier<MetaData> metaDataSupplier;
 
     /**
      * Instantiate a {@link GrpcBackedResponseMessage} with the given {@code queryResponse}, using the provided {@link
      * Serializer} to be able to retrieve the payload and {@link MetaData} from it.
+     * <p>
+     * The payload type, payload, exception and {@link MetaData} are only resolved from the {@code queryResponse} once
+     * they are requested. Responses which are filtered out or of which only the meta data is inspected are thus never
+     * deserialized in full.
      *
      * @param queryResponse the {@link QueryResponse} which is being wrapped as a {@link QueryResponseMessage}
      * @param serializer    the {@link Serializer} used to deserialize the payload and {@link MetaData} from the given
@@ -57,19 +62,23 @@ public GrpcBackedResponseMessage(QueryResponse queryResponse, Serializer seriali
         this.queryResponse = queryResponse;
         this.serializedPayload = queryResponse.hasPayload()
                 && !SerializedType.emptyType().getName().equalsIgnoreCase(queryResponse.getPayload().getType())
-                ? new LazyDeserializingObject<>(new GrpcSerializedObject(queryResponse.getPayload()), serializer)
+                ? CachingSupplier.of(() -> new LazyDeserializingObject<>(
+                        GrpcByteBufferSerializedObject.forSerializer(queryResponse.getPayload(), serializer), serializer
+                ))
                 : null;
+        Supplier<Object> exceptionDetails = serializedPayload == null
+                ? () -> null
+                : () -> serializedPayload.get().getObject();
         this.exception = queryResponse.hasErrorMessage()
-                ? ErrorCode.getFromCode(queryResponse.getErrorCode())
-                           .convert(queryResponse.getErrorMessage(),
-                                    serializedPayload == null ? () -> null : serializedPayload::getObject)
+                ? CachingSupplier.of(() -> ErrorCode.getFromCode(queryResponse.getErrorCode())
+                                                    .convert(queryResponse.getErrorMessage(), exceptionDetails))
                 : null;
         this.metaDataSupplier = new GrpcMetaData(queryResponse.getMetaDataMap(), serializer);
     }
 
     private GrpcBackedResponseMessage(QueryResponse queryResponse,
-                                      LazyDeserializingObject<R> serializedPayload,
-                                      Throwable exception,
+                                      Supplier<LazyDeserializingObject<R>> serializedPayload,
+                                      Supplier<Throwable> exception,
                                       Supplier<MetaData> metaDataSupplier) {
         this.queryResponse = queryResponse;
         this.serializedPayload = serializedPayload;
@@ -93,15 +102,15 @@ public R getPayload() {
             throw new IllegalPayloadAccessException(
                     "This result completed exceptionally, payload is not available. "
                             + "Try calling 'exceptionResult' to see the cause of failure.",
-                    exception
+                    exception.get()
             );
         }
-        return serializedPayload == null ? null : serializedPayload.getObject();
+        return serializedPayload == null ? null : serializedPayload.get().getObject();
     }
 
     @Override
     public Class<R> getPayloadType() {
-        return serializedPayload == null ? null : serializedPayload.getType();
+        return serializedPayload == null ? null : serializedPayload.get().getType();
     }
 
     @Override
@@ -111,7 +120,7 @@ public boolean isExceptional() {
 
     @Override
     public Optional<Throwable> optionalExceptionResult() {
-        return Optional.ofNullable(exception);
+        return exception == null ? Optional.empty() : Optional.of(exception.get());
     }
 
     @Override
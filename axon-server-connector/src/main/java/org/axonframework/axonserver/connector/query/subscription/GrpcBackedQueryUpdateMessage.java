@@ -18,11 +18,12 @@
 
 import io.axoniq.axonserver.grpc.query.QueryUpdate;
 import org.axonframework.axonserver.connector.ErrorCode;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.axonserver.connector.util.GrpcMetaData;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.messaging.IllegalPayloadAccessException;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.queryhandling.SubscriptionQueryUpdateMessage;
+import org.axonframework.serialization.CachingSupplier;
 import org.axonframework.serialization.LazyDeserializingObject;
 import org.axonframework.serialization.Serializer;
 
@@ -40,13 +41,16 @@
 class GrpcBackedQueryUpdateMessage<U> implements SubscriptionQueryUpdateMessage<U> {
 
     private final QueryUpdate queryUpdate;
-    private final LazyDeserializingObject<U> serializedPayload;
-    private final Throwable exception;
+    private final Supplier<LazyDeserializingObject<U>> serializedPayload;
+    private final Supplier<Throwable> exception;
     private final Supplier<MetaData> metaDataSupplier;
 
     /**
      * Instantiate a {@link GrpcBackedQueryUpdateMessage} with the given {@code queryUpdate}, using the provided {@code
      * serializer} to be able to retrieve the payload and {@link MetaData} from it.
+     * <p>
+     * The payload type, payload, exception and {@link MetaData} are only resolved from the {@code queryUpdate} once
+     * they are requested.
      *
      * @param queryUpdate a {@link QueryUpdate} which is being wrapped as a {@link SubscriptionQueryUpdateMessage}
      * @param serializer  a {@link Serializer} used to deserialize the payload and {@link MetaData} from the given
@@ -55,21 +59,23 @@
     public GrpcBackedQueryUpdateMessage(QueryUpdate queryUpdate, Serializer serializer) {
         this.queryUpdate = queryUpdate;
         this.serializedPayload = queryUpdate.hasPayload()
-                ? new LazyDeserializingObject<>(new GrpcSerializedObject(queryUpdate.getPayload()), serializer)
+                ? CachingSupplier.of(() -> new LazyDeserializingObject<>(
+                        GrpcByteBufferSerializedObject.forSerializer(queryUpdate.getPayload(), serializer), serializer
+                ))
                 : null;
         Supplier<Object> exceptionDetails = serializedPayload == null
                 ? () -> null
-                : serializedPayload::getObject;
+                : () -> serializedPayload.get().getObject();
         this.exception = queryUpdate.hasErrorMessage()
-                ? ErrorCode.getFromCode(queryUpdate.getErrorCode())
-                           .convert(queryUpdate.getErrorMessage(), exceptionDetails)
+                ? CachingSupplier.of(() -> ErrorCode.getFromCode(queryUpdate.getErrorCode())
+                                                    .convert(queryUpdate.getErrorMessage(), exceptionDetails))
                 : null;
         this.metaDataSupplier = new GrpcMetaData(queryUpdate.getMetaDataMap(), serializer);
     }
 
     private GrpcBackedQueryUpdateMessage(QueryUpdate queryUpdate,
-                                         LazyDeserializingObject<U> serializedPayload,
-                                         Throwable exception,
+                                         Supplier<LazyDeserializingObject<U>> serializedPayload,
+                                         Supplier<Throwable> exception,
                                          Supplier<MetaData> metaDataSupplier) {
         this.queryUpdate = queryUpdate;
         this.serializedPayload = serializedPayload;
@@ -93,15 +99,15 @@ public U getPayload() {
             throw new IllegalPayloadAccessException(
                     "This result completed exceptionally, payload is not available. "
                             + "Try calling 'exceptionResult' to see the cause of failure.",
-                    exception
+                    exception.get()
             );
         }
-        return serializedPayload == null ? null : serializedPayload.getObject();
+        return serializedPayload == null ? null : serializedPayload.get().getObject();
     }
 
     @Override
     public Class<U> getPayloadType() {
-        return serializedPayload.getType();
+        return serializedPayload == null ? null : serializedPayload.get().getType();
     }
 
     @Override
@@ -111,7 +117,7 @@ public boolean isExceptional() {
 
     @Override
     public Optional<Throwable> optionalExceptionResult() {
-        return Optional.ofNullable(exception);
+        return exception == null ? Optional.empty() : Optional.of(exception.get());
     }
 
     @Override
@@ -18,7 +18,6 @@
 
 import io.axoniq.axonserver.grpc.query.SubscriptionQuery;
 import org.axonframework.axonserver.connector.query.GrpcBackedQueryMessage;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.queryhandling.SubscriptionQueryMessage;
@@ -62,7 +61,10 @@ public GrpcBackedSubscriptionQueryMessage(SubscriptionQuery subscriptionQuery,
                 subscriptionQuery,
                 new GrpcBackedQueryMessage<>(subscriptionQuery.getQueryRequest(), messageSerializer, serializer),
                 new LazyDeserializingObject<>(
-                        new GrpcSerializedObject(subscriptionQuery.getQueryRequest().getResponseType()), serializer
+                        GrpcByteBufferSerializedObject.forSerializer(
+                                subscriptionQuery.getQueryRequest().getResponseType(), serializer
+                        ),
+                        serializer
                 )
         );
     }
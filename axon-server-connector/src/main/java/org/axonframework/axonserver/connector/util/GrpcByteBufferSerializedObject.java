@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.util;
+
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Wrapper that allows clients to access a gRPC {@link io.axoniq.axonserver.grpc.SerializedObject} message as a {@link
+ * SerializedObject} of a {@link ByteBuffer}. The data is exposed as a read-only view on the gRPC message's bytes, so
+ * serializers able to read from a buffer directly, like the {@link JacksonSerializer}, do not require the payload to be
+ * copied into a new byte array first.
+ * <p>
+ * Use {@link #forSerializer(io.axoniq.axonserver.grpc.SerializedObject, Serializer)} to wrap incoming payloads. It
+ * only uses this buffer based representation for a {@link JacksonSerializer}, as other serializers and converters may
+ * expect the {@code byte[]} of a {@link GrpcSerializedObject}.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class GrpcByteBufferSerializedObject implements SerializedObject<ByteBuffer> {
+
+    private final io.axoniq.axonserver.grpc.SerializedObject payload;
+    private final SerializedType type;
+
+    /**
+     * Initialize a {@link GrpcByteBufferSerializedObject}, wrapping a {@link
+     * io.axoniq.axonserver.grpc.SerializedObject} as a {@link SerializedObject} of a {@link ByteBuffer}.
+     *
+     * @param serializedObject a {@link io.axoniq.axonserver.grpc.SerializedObject} which will be wrapped as a {@link
+     *                         SerializedObject}
+     */
+    public GrpcByteBufferSerializedObject(io.axoniq.axonserver.grpc.SerializedObject serializedObject) {
+        this.payload = serializedObject;
+        this.type = new GrpcSerializedObject(serializedObject).getType();
+    }
+
+    /**
+     * Wraps the given {@code serializedObject} into a {@link SerializedObject} to be deserialized by the given {@code
+     * serializer}. Returns a {@link GrpcByteBufferSerializedObject} if the {@code serializer} is a {@link
+     * JacksonSerializer}, which reads the buffer without copying it. Otherwise, a {@link GrpcSerializedObject} is
+     * returned.
+     *
+     * @param serializedObject the {@link io.axoniq.axonserver.grpc.SerializedObject} to wrap
+     * @param serializer       the {@link Serializer} which will deserialize the returned {@link SerializedObject}
+     * @return a {@link SerializedObject} wrapping the given {@code serializedObject}, suitable for the given {@code
+     * serializer}
+     */
+    public static SerializedObject<?> forSerializer(io.axoniq.axonserver.grpc.SerializedObject serializedObject,
+                                                    Serializer serializer) {
+        return serializer instanceof JacksonSerializer
+                ? new GrpcByteBufferSerializedObject(serializedObject)
+                : new GrpcSerializedObject(serializedObject);
+    }
+
+    @Override
+    public Class<ByteBuffer> getContentType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public SerializedType getType() {
+        return type;
+    }
+
+    @Override
+    public ByteBuffer getData() {
+        return payload.getData().asReadOnlyByteBuffer();
+    }
+}
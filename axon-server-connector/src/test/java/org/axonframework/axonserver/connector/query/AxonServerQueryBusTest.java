@@ -18,6 +18,7 @@
 
 import com.google.protobuf.ByteString;
 import io.axoniq.axonserver.connector.AxonServerConnection;
+import io.axoniq.axonserver.connector.ReplyChannel;
 import io.axoniq.axonserver.connector.ResultStream;
 import io.axoniq.axonserver.connector.query.QueryChannel;
 import io.axoniq.axonserver.connector.query.QueryDefinition;
@@ -39,6 +40,7 @@
 import org.axonframework.messaging.MessageHandlerInterceptor;
 import org.axonframework.messaging.responsetypes.InstanceResponseType;
 import org.axonframework.queryhandling.GenericQueryMessage;
+import org.axonframework.queryhandling.GenericQueryResponseMessage;
 import org.axonframework.queryhandling.GenericSubscriptionQueryMessage;
 import org.axonframework.queryhandling.QueryBus;
 import org.axonframework.queryhandling.QueryExecutionException;
@@ -63,6 +65,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -397,6 +400,134 @@ void testAfterShutdownDispatchingAnShutdownInProgressExceptionOnSubscriptionQuer
                      () -> testSubject.subscriptionQuery(testSubscriptionQuery));
     }
 
+    @Test
+    void testQueriesExceedingTheCapacityOfTheirQueryLaneAreRejected() throws Exception {
+        AxonServerConfiguration laneConfiguration = AxonServerConfiguration.builder()
+                                                                           .context(CONTEXT)
+                                                                           .queryLane("reporting", 1, 0, TEST_QUERY)
+                                                                           .build();
+        AxonServerQueryBus laneSubject = AxonServerQueryBus.builder()
+                                                           .axonServerConnectionManager(axonServerConnectionManager)
+                                                           .configuration(laneConfiguration)
+                                                           .localSegment(localSegment)
+                                                           .updateEmitter(SimpleQueryUpdateEmitter.builder().build())
+                                                           .messageSerializer(serializer)
+                                                           .genericSerializer(serializer)
+                                                           .build();
+        CountDownLatch handlerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseHandler = new CountDownLatch(1);
+        when(localSegment.query(any())).thenAnswer(invocation -> {
+            handlerBlocked.countDown();
+            releaseHandler.await(5, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture(new GenericQueryResponseMessage<>("result"));
+        });
+        ArgumentCaptor<QueryHandler> queryHandlerCaptor = ArgumentCaptor.forClass(QueryHandler.class);
+        laneSubject.subscribe(TEST_QUERY, String.class, q -> "result");
+        verify(mockQueryChannel).registerQueryHandler(queryHandlerCaptor.capture(), any());
+        QueryHandler queryHandler = queryHandlerCaptor.getValue();
+        QuerySerializer querySerializer = new QuerySerializer(serializer, serializer, laneConfiguration);
+        QueryMessage<String, String> testQuery = new GenericQueryMessage<>("payload", TEST_QUERY, instanceOf(String.class));
+        //noinspection unchecked
+        ReplyChannel<QueryResponse> acceptedReplyChannel = mock(ReplyChannel.class);
+        //noinspection unchecked
+        ReplyChannel<QueryResponse> rejectedReplyChannel = mock(ReplyChannel.class);
+
+        queryHandler.handle(querySerializer.serializeRequest(testQuery, 1, 1000, 0), acceptedReplyChannel);
+        assertTrue(handlerBlocked.await(5, TimeUnit.SECONDS));
+        queryHandler.handle(querySerializer.serializeRequest(testQuery, 1, 1000, 0), rejectedReplyChannel);
+
+        ArgumentCaptor<QueryResponse> rejectionCaptor = ArgumentCaptor.forClass(QueryResponse.class);
+        verify(rejectedReplyChannel).sendLast(rejectionCaptor.capture());
+        assertEquals(ErrorCode.QUERY_EXECUTION_ERROR.errorCode(), rejectionCaptor.getValue().getErrorCode());
+        verify(acceptedReplyChannel, never()).sendLast(any());
+
+        releaseHandler.countDown();
+        verify(acceptedReplyChannel, timeout(5000)).sendLast(any());
+        laneSubject.disconnect();
+    }
+
+    @Test
+    void testQueryLaneSlotIsHeldUntilAsynchronousResponseCompletes() {
+        AxonServerConfiguration laneConfiguration = AxonServerConfiguration.builder()
+                                                                           .context(CONTEXT)
+                                                                           .queryLane("reporting", 1, 0, TEST_QUERY)
+                                                                           .build();
+        AxonServerQueryBus laneSubject = AxonServerQueryBus.builder()
+                                                           .axonServerConnectionManager(axonServerConnectionManager)
+                                                           .configuration(laneConfiguration)
+                                                           .localSegment(localSegment)
+                                                           .updateEmitter(SimpleQueryUpdateEmitter.builder().build())
+                                                           .messageSerializer(serializer)
+                                                           .genericSerializer(serializer)
+                                                           .build();
+        CompletableFuture<QueryResponseMessage<Object>> pendingResponse = new CompletableFuture<>();
+        when(localSegment.query(any())).thenReturn(pendingResponse)
+                                       .thenReturn(CompletableFuture.completedFuture(
+                                               new GenericQueryResponseMessage<>("result")
+                                       ));
+        ArgumentCaptor<QueryHandler> queryHandlerCaptor = ArgumentCaptor.forClass(QueryHandler.class);
+        laneSubject.subscribe(TEST_QUERY, String.class, q -> "result");
+        verify(mockQueryChannel).registerQueryHandler(queryHandlerCaptor.capture(), any());
+        QueryHandler queryHandler = queryHandlerCaptor.getValue();
+        QuerySerializer querySerializer = new QuerySerializer(serializer, serializer, laneConfiguration);
+        QueryMessage<String, String> testQuery = new GenericQueryMessage<>("payload", TEST_QUERY, instanceOf(String.class));
+        //noinspection unchecked
+        ReplyChannel<QueryResponse> pendingReplyChannel = mock(ReplyChannel.class);
+        //noinspection unchecked
+        ReplyChannel<QueryResponse> rejectedReplyChannel = mock(ReplyChannel.class);
+        //noinspection unchecked
+        ReplyChannel<QueryResponse> acceptedReplyChannel = mock(ReplyChannel.class);
+
+        queryHandler.handle(querySerializer.serializeRequest(testQuery, 1, 1000, 0), pendingReplyChannel);
+        verify(localSegment, timeout(5000)).query(any());
+        queryHandler.handle(querySerializer.serializeRequest(testQuery, 1, 1000, 0), rejectedReplyChannel);
+
+        ArgumentCaptor<QueryResponse> rejectionCaptor = ArgumentCaptor.forClass(QueryResponse.class);
+        verify(rejectedReplyChannel).sendLast(rejectionCaptor.capture());
+        assertEquals(ErrorCode.QUERY_EXECUTION_ERROR.errorCode(), rejectionCaptor.getValue().getErrorCode());
+
+        pendingResponse.complete(new GenericQueryResponseMessage<>("result"));
+        verify(pendingReplyChannel, timeout(5000)).sendLast(any());
+        queryHandler.handle(querySerializer.serializeRequest(testQuery, 1, 1000, 0), acceptedReplyChannel);
+
+        ArgumentCaptor<QueryResponse> responseCaptor = ArgumentCaptor.forClass(QueryResponse.class);
+        verify(acceptedReplyChannel, timeout(5000)).sendLast(responseCaptor.capture());
+        assertFalse(responseCaptor.getValue().hasErrorMessage());
+        laneSubject.disconnect();
+    }
+
+    @Test
+    void testDisconnectShutsDownQueryLanes() {
+        AxonServerConfiguration laneConfiguration = AxonServerConfiguration.builder()
+                                                                           .context(CONTEXT)
+                                                                           .queryLane("reporting", 1, 0, TEST_QUERY)
+                                                                           .build();
+        AxonServerQueryBus laneSubject = AxonServerQueryBus.builder()
+                                                           .axonServerConnectionManager(axonServerConnectionManager)
+                                                           .configuration(laneConfiguration)
+                                                           .localSegment(localSegment)
+                                                           .updateEmitter(SimpleQueryUpdateEmitter.builder().build())
+                                                           .messageSerializer(serializer)
+                                                           .genericSerializer(serializer)
+                                                           .build();
+        ArgumentCaptor<QueryHandler> queryHandlerCaptor = ArgumentCaptor.forClass(QueryHandler.class);
+        laneSubject.subscribe(TEST_QUERY, String.class, q -> "result");
+        verify(mockQueryChannel).registerQueryHandler(queryHandlerCaptor.capture(), any());
+        QuerySerializer querySerializer = new QuerySerializer(serializer, serializer, laneConfiguration);
+        QueryMessage<String, String> testQuery = new GenericQueryMessage<>("payload", TEST_QUERY, instanceOf(String.class));
+        //noinspection unchecked
+        ReplyChannel<QueryResponse> replyChannel = mock(ReplyChannel.class);
+
+        laneSubject.disconnect();
+        queryHandlerCaptor.getValue()
+                          .handle(querySerializer.serializeRequest(testQuery, 1, 1000, 0), replyChannel);
+
+        ArgumentCaptor<QueryResponse> rejectionCaptor = ArgumentCaptor.forClass(QueryResponse.class);
+        verify(replyChannel).sendLast(rejectionCaptor.capture());
+        assertEquals(ErrorCode.QUERY_EXECUTION_ERROR.errorCode(), rejectionCaptor.getValue().getErrorCode());
+        verify(localSegment, never()).query(any());
+    }
+
     private QueryResponse stubResponse(String payload) {
         return QueryResponse.newBuilder()
                             .setRequestIdentifier("request")
@@ -30,6 +30,8 @@
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class GrpcBackedResponseMessageTest {
 
@@ -93,6 +95,24 @@ TestQueryResponse.class, new IllegalArgumentException("some-exception")
         assertThrows(IllegalPayloadAccessException.class, testSubject::getPayload);
     }
 
+    @Test
+    void testPayloadIsNotResolvedUntilRequested() {
+        QueryResponseMessage<TestQueryResponse> testQueryResponseMessage =
+                GenericQueryResponseMessage.<TestQueryResponse>asResponseMessage(TEST_QUERY_RESPONSE)
+                        .withMetaData(MetaData.with("some-key", "some-value"));
+        QueryResponse testQueryResponse =
+                querySerializer.serializeResponse(testQueryResponseMessage, REQUEST_MESSAGE_ID);
+        Serializer spiedSerializer = spy(serializer);
+        GrpcBackedResponseMessage<TestQueryResponse> testSubject =
+                new GrpcBackedResponseMessage<>(testQueryResponse, spiedSerializer);
+
+        assertFalse(testSubject.isExceptional());
+        verify(spiedSerializer, never()).classForType(any());
+        verify(spiedSerializer, never()).deserialize(any());
+
+        assertEquals(TEST_QUERY_RESPONSE, testSubject.getPayload());
+    }
+
     @Test
     void testGetPayloadTypeReturnsTheTypeOfTheInsertedQueryResponseMessage() {
         QueryResponseMessage<TestQueryResponse> testQueryResponseMessage =
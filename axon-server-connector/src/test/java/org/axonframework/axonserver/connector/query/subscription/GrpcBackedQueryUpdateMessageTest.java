@@ -29,6 +29,8 @@
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * Test all the functions provided on the {@link GrpcBackedQueryUpdateMessage}. The {@link QueryUpdate} to be passed to
@@ -82,6 +84,23 @@ void testGetPayloadReturnsAnIdenticalObjectAsInsertedThroughTheQueryUpdate() {
         assertEquals(expectedQueryUpdate, testSubject.getPayload());
     }
 
+    @Test
+    void testPayloadIsNotResolvedUntilRequested() {
+        SubscriptionQueryUpdateMessage<Object> testSubscriptionQueryUpdateMessage =
+                GenericSubscriptionQueryUpdateMessage.asUpdateMessage(TEST_QUERY_UPDATE);
+        QueryUpdate testQueryUpdate =
+                subscriptionMessageSerializer.serialize(testSubscriptionQueryUpdateMessage);
+        Serializer spiedSerializer = spy(serializer);
+        GrpcBackedQueryUpdateMessage<TestQueryUpdate> testSubject =
+                new GrpcBackedQueryUpdateMessage<>(testQueryUpdate, spiedSerializer);
+
+        assertFalse(testSubject.isExceptional());
+        verify(spiedSerializer, never()).classForType(any());
+        verify(spiedSerializer, never()).deserialize(any());
+
+        assertEquals(TEST_QUERY_UPDATE, testSubject.getPayload());
+    }
+
     @Test
     void testGetPayloadTypeReturnsTheTypeOfTheInsertedQueryUpdate() {
         SubscriptionQueryUpdateMessage<Object> testSubscriptionQueryUpdateMessage =
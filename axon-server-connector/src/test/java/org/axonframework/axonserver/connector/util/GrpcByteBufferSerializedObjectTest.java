@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.util;
+
+import com.google.protobuf.ByteString;
+import org.axonframework.axonserver.connector.utils.TestSerializer;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link GrpcByteBufferSerializedObject}.
+ */
+class GrpcByteBufferSerializedObjectTest {
+
+    @Test
+    void testExposesDataAsReadOnlyByteBuffer() {
+        byte[] data = "payload".getBytes(StandardCharsets.UTF_8);
+        GrpcByteBufferSerializedObject testSubject =
+                new GrpcByteBufferSerializedObject(serializedObject(String.class.getName(), "1", data));
+
+        ByteBuffer result = testSubject.getData();
+
+        assertEquals(ByteBuffer.class, testSubject.getContentType());
+        assertTrue(result.isReadOnly());
+        byte[] actual = new byte[result.remaining()];
+        result.get(actual);
+        assertArrayEquals(data, actual);
+    }
+
+    @Test
+    void testExposesTypeAndRevision() {
+        SerializedType result =
+                new GrpcByteBufferSerializedObject(serializedObject(String.class.getName(), "", new byte[0])).getType();
+
+        assertEquals(String.class.getName(), result.getName());
+        assertNull(result.getRevision());
+    }
+
+    @Test
+    void testDeserializesWithSerializersReadingBuffersAndByteArrays() {
+        Serializer[] serializers = {JacksonSerializer.defaultSerializer(), TestSerializer.xStreamSerializer()};
+        for (Serializer serializer : serializers) {
+            byte[] data = serializer.serialize("payload", byte[].class).getData();
+            GrpcByteBufferSerializedObject testSubject =
+                    new GrpcByteBufferSerializedObject(serializedObject(String.class.getName(), "", data));
+
+            assertEquals("payload", serializer.deserialize(testSubject));
+        }
+    }
+
+    @Test
+    void testForSerializerUsesByteBufferForJacksonSerializer() {
+        io.axoniq.axonserver.grpc.SerializedObject grpcObject =
+                serializedObject(String.class.getName(), "", "payload".getBytes(StandardCharsets.UTF_8));
+
+        SerializedObject<?> result =
+                GrpcByteBufferSerializedObject.forSerializer(grpcObject, JacksonSerializer.defaultSerializer());
+
+        assertTrue(result instanceof GrpcByteBufferSerializedObject);
+        assertEquals(ByteBuffer.class, result.getContentType());
+    }
+
+    @Test
+    void testForSerializerUsesByteArrayForOtherSerializers() {
+        byte[] data = "payload".getBytes(StandardCharsets.UTF_8);
+        io.axoniq.axonserver.grpc.SerializedObject grpcObject = serializedObject(String.class.getName(), "", data);
+
+        SerializedObject<?> result =
+                GrpcByteBufferSerializedObject.forSerializer(grpcObject, TestSerializer.xStreamSerializer());
+
+        assertTrue(result instanceof GrpcSerializedObject);
+        assertEquals(byte[].class, result.getContentType());
+        assertArrayEquals(data, (byte[]) result.getData());
+    }
+
+    private static io.axoniq.axonserver.grpc.SerializedObject serializedObject(String type,
+                                                                                String revision,
+                                                                                byte[] data) {
+        return io.axoniq.axonserver.grpc.SerializedObject.newBuilder()
+                                                         .setType(type)
+                                                         .setRevision(revision)
+                                                         .setData(ByteString.copyFrom(data))
+                                                         .build();
+    }
+}
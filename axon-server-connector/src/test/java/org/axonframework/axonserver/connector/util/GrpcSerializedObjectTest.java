@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.util;
+
+import com.google.protobuf.ByteString;
+import org.axonframework.serialization.SerializedType;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link GrpcSerializedObject}.
+ */
+class GrpcSerializedObjectTest {
+
+    private static final byte[] DATA = "<string>payload</string>".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testExposesDataAsByteArray() {
+        GrpcSerializedObject testSubject = new GrpcSerializedObject(serializedObject("some-revision"));
+
+        assertEquals(byte[].class, testSubject.getContentType());
+        assertArrayEquals(DATA, testSubject.getData());
+    }
+
+    @Test
+    void testExposesTypeAndRevision() {
+        SerializedType result = new GrpcSerializedObject(serializedObject("some-revision")).getType();
+
+        assertEquals(String.class.getName(), result.getName());
+        assertEquals("some-revision", result.getRevision());
+    }
+
+    @Test
+    void testEmptyRevisionIsExposedAsNull() {
+        SerializedType result = new GrpcSerializedObject(serializedObject("")).getType();
+
+        assertNull(result.getRevision());
+    }
+
+    private static io.axoniq.axonserver.grpc.SerializedObject serializedObject(String revision) {
+        return io.axoniq.axonserver.grpc.SerializedObject.newBuilder()
+                                                         .setType(String.class.getName())
+                                                         .setRevision(revision)
+                                                         .setData(ByteString.copyFrom(DATA))
+                                                         .build();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.snapshotting;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.eventhandling.DomainEventData;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.UnknownSerializedType;
+
+import java.util.Objects;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+
+/**
+ * A {@link SnapshotFilter} implementation which only allows snapshots whose serialized revision matches the current
+ * revision of the snapshot's class, as resolved by the configured {@link Serializer}. Snapshots of which the class can
+ * no longer be resolved are rejected as well.
+ * <p>
+ * The decision is made on the {@link SerializedType} of the snapshot's payload alone, without deserializing the
+ * payload. This invalidates all existing snapshots of an aggregate once its revision changes, without having to
+ * configure a {@link RevisionSnapshotFilter} per aggregate type. Note that this filter should not be used for
+ * aggregates with snapshot upcasters, as snapshots of older revisions are rejected before they are upcasted.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class CurrentRevisionSnapshotFilter implements SnapshotFilter {
+
+    private final Serializer serializer;
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CurrentRevisionSnapshotFilter}.
+     * <p>
+     * The {@link Serializer} is a <b>hard requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link CurrentRevisionSnapshotFilter}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link CurrentRevisionSnapshotFilter} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link Serializer} is not {@code null} and will throw an {@link AxonConfigurationException}
+     * if this is the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CurrentRevisionSnapshotFilter} instance
+     */
+    protected CurrentRevisionSnapshotFilter(Builder builder) {
+        builder.validate();
+        this.serializer = builder.serializer;
+    }
+
+    @Override
+    public boolean test(DomainEventData<?> domainEventData) {
+        SerializedType snapshotType = domainEventData.getPayload().getType();
+        Class<?> snapshotClass = serializer.classForType(snapshotType);
+        if (UnknownSerializedType.class.isAssignableFrom(snapshotClass)) {
+            return false;
+        }
+        return Objects.equals(snapshotType.getRevision(), serializer.typeForClass(snapshotClass).getRevision());
+    }
+
+    /**
+     * Builder class to instantiate a {@link CurrentRevisionSnapshotFilter}.
+     * <p>
+     * The {@link Serializer} is a <b>hard requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private Serializer serializer;
+
+        /**
+         * Sets the {@link Serializer} used to resolve the class and current revision of a snapshot. Should be the
+         * serializer used to store the snapshots.
+         *
+         * @param serializer the {@link Serializer} used to resolve the class and current revision of a snapshot
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder serializer(Serializer serializer) {
+            assertNonNull(serializer, "The Serializer may not be null");
+            this.serializer = serializer;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CurrentRevisionSnapshotFilter} as specified through this Builder.
+         *
+         * @return a {@link CurrentRevisionSnapshotFilter} as specified through this Builder
+         */
+        public CurrentRevisionSnapshotFilter build() {
+            return new CurrentRevisionSnapshotFilter(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder as set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() {
+            assertNonNull(serializer, "The Serializer is a hard requirement and should be provided");
+        }
+    }
+}
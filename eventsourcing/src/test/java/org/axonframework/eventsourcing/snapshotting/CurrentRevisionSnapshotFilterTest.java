@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.snapshotting;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.eventhandling.DomainEventData;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.eventstore.jpa.SnapshotEventEntry;
+import org.axonframework.eventsourcing.utils.TestSerializer;
+import org.axonframework.serialization.Revision;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.junit.jupiter.api.*;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link CurrentRevisionSnapshotFilter}.
+ */
+class CurrentRevisionSnapshotFilterTest {
+
+    private static final String CURRENT_REVISION = "2";
+
+    private final Serializer serializer = TestSerializer.xStreamSerializer();
+
+    private final CurrentRevisionSnapshotFilter testSubject =
+            CurrentRevisionSnapshotFilter.builder()
+                                         .serializer(serializer)
+                                         .build();
+
+    @Test
+    void testAllowsSnapshotOfTheCurrentRevision() {
+        DomainEventMessage<RevisedAggregate> snapshotEvent = new GenericDomainEventMessage<>(
+                RevisedAggregate.class.getName(), "some-aggregate-id", 0, new RevisedAggregate("some-state")
+        );
+        DomainEventData<byte[]> testDomainEventData = new SnapshotEventEntry(snapshotEvent, serializer);
+
+        assertTrue(testSubject.allow(testDomainEventData));
+    }
+
+    @Test
+    void testDisallowsSnapshotOfAnOutdatedRevision() {
+        DomainEventData<String> testDomainEventData = snapshotData(RevisedAggregate.class.getName(), "1");
+
+        assertFalse(testSubject.allow(testDomainEventData));
+    }
+
+    @Test
+    void testDisallowsSnapshotOfAnUnknownClass() {
+        DomainEventData<String> testDomainEventData = snapshotData("some.removed.Aggregate", CURRENT_REVISION);
+
+        assertFalse(testSubject.allow(testDomainEventData));
+    }
+
+    @Test
+    void testDoesNotReadThePayloadToDecide() {
+        //noinspection unchecked
+        SerializedObject<byte[]> testPayload = mock(SerializedObject.class);
+        when(testPayload.getType())
+                .thenReturn(new SimpleSerializedType(RevisedAggregate.class.getName(), CURRENT_REVISION));
+        //noinspection unchecked
+        DomainEventData<byte[]> testDomainEventData = mock(DomainEventData.class);
+        when(testDomainEventData.getPayload()).thenReturn(testPayload);
+
+        assertTrue(testSubject.allow(testDomainEventData));
+        verify(testPayload, never()).getData();
+    }
+
+    @Test
+    void testBuildWithNullSerializerThrowsAxonConfigurationException() {
+        CurrentRevisionSnapshotFilter.Builder builderTestSubject = CurrentRevisionSnapshotFilter.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builderTestSubject.serializer(null));
+    }
+
+    @Test
+    void testBuildWithoutSerializerThrowsAxonConfigurationException() {
+        CurrentRevisionSnapshotFilter.Builder builderTestSubject = CurrentRevisionSnapshotFilter.builder();
+
+        assertThrows(AxonConfigurationException.class, builderTestSubject::build);
+    }
+
+    private static DomainEventData<String> snapshotData(String payloadType, String payloadRevision) {
+        return new GenericDomainEventEntry<>(RevisedAggregate.class.getName(), "some-aggregate-id", 0,
+                                             "some-event-id", Instant.now(), payloadType, payloadRevision,
+                                             "<some-state/>", "<meta-data/>");
+    }
+
+    @Revision(CURRENT_REVISION)
+    private static class RevisedAggregate {
+
+        private final String state;
+
+        private RevisedAggregate(String state) {
+            this.state = state;
+        }
+
+        public String getState() {
+            return state;
+        }
+    }
+}
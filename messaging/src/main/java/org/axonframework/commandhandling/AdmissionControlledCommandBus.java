@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.commandhandling.callbacks.LoggingCallback;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import static java.lang.String.format;
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+
+/**
+ * A {@link CommandBus} wrapper bounding the number of commands in flight on the delegate {@code CommandBus}. A command
+ * is in flight from the moment it is dispatched until its {@link CommandCallback} is invoked.
+ * <p>
+ * Commands are admitted as long as the number of commands in flight is below the admission limit for the command's
+ * priority. Otherwise, the command is rejected right away by reporting a {@link CommandBusOverloadedException} to its
+ * callback. As this exception is transient, {@link org.axonframework.commandhandling.gateway.RetryScheduler}s will
+ * retry rejected commands. By defining a lower admission limit for low priority commands than for high priority
+ * commands, capacity is kept available for the latter when the application is overloaded.
+ * <p>
+ * Commands dispatched without a callback are dispatched on the delegate with a {@link LoggingCallback}, as completion
+ * has to be tracked to release capacity.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class AdmissionControlledCommandBus implements CommandBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final CommandBus delegate;
+    private final ToIntFunction<CommandMessage<?>> priorityCalculator;
+    private final NavigableMap<Integer, Integer> admissionLimits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Instantiate a Builder to be able to create an {@link AdmissionControlledCommandBus}.
+     * <p>
+     * The priority calculator defaults to assigning priority {@code 0} to every command. The delegate {@link
+     * CommandBus} and the maximum number of commands in flight are <b>hard requirements</b> and as such should be
+     * provided.
+     *
+     * @return a Builder to be able to create an {@link AdmissionControlledCommandBus}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate an {@link AdmissionControlledCommandBus} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the delegate {@link CommandBus} is not {@code null} and that the maximum number of commands in
+     * flight is set, and will throw an {@link AxonConfigurationException} if this is not the case.
+     *
+     * @param builder the {@link Builder} used to instantiate an {@link AdmissionControlledCommandBus} instance
+     */
+    protected AdmissionControlledCommandBus(Builder builder) {
+        builder.validate();
+        this.delegate = builder.delegate;
+        this.priorityCalculator = builder.priorityCalculator;
+        this.admissionLimits = new TreeMap<>(builder.admissionLimits);
+        this.admissionLimits.put(Integer.MIN_VALUE, builder.maxInFlight);
+    }
+
+    @Override
+    public <C> void dispatch(CommandMessage<C> command) {
+        dispatch(command, LoggingCallback.INSTANCE);
+    }
+
+    @Override
+    public <C, R> void dispatch(CommandMessage<C> command, CommandCallback<? super C, ? super R> callback) {
+        int priority = priorityCalculator.applyAsInt(command);
+        int limit = admissionLimits.floorEntry(priority).getValue();
+        if (!tryAdmit(limit)) {
+            logger.debug("Rejecting command [{}] with priority [{}], as [{}] commands are in flight.",
+                         command.getCommandName(), priority, inFlight.get());
+            callback.onResult(command, asCommandResultMessage(new CommandBusOverloadedException(format(
+                    "Command [%s] rejected, as the limit of [%d] commands in flight for priority [%d] is reached",
+                    command.getCommandName(), limit, priority
+            ))));
+            return;
+        }
+        AtomicBoolean released = new AtomicBoolean(false);
+        try {
+            delegate.dispatch(command, (CommandCallback<C, R>) (commandMessage, commandResultMessage) -> {
+                release(released);
+                callback.onResult(commandMessage, commandResultMessage);
+            });
+        } catch (RuntimeException | Error e) {
+            release(released);
+            throw e;
+        }
+    }
+
+    private boolean tryAdmit(int limit) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release(AtomicBoolean released) {
+        if (released.compareAndSet(false, true)) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of commands currently in flight on the delegate {@link CommandBus}.
+     *
+     * @return the number of commands currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.get();
+    }
+
+    @Override
+    public Registration subscribe(String commandName, MessageHandler<? super CommandMessage<?>> handler) {
+        return delegate.subscribe(commandName, handler);
+    }
+
+    @Override
+    public Registration registerHandlerInterceptor(
+            MessageHandlerInterceptor<? super CommandMessage<?>> handlerInterceptor) {
+        return delegate.registerHandlerInterceptor(handlerInterceptor);
+    }
+
+    @Override
+    public Registration registerDispatchInterceptor(
+            MessageDispatchInterceptor<? super CommandMessage<?>> dispatchInterceptor) {
+        return delegate.registerDispatchInterceptor(dispatchInterceptor);
+    }
+
+    /**
+     * Builder class to instantiate an {@link AdmissionControlledCommandBus}.
+     * <p>
+     * The priority calculator defaults to assigning priority {@code 0} to every command. The delegate {@link
+     * CommandBus} and the maximum number of commands in flight are <b>hard requirements</b> and as such should be
+     * provided.
+     */
+    public static class Builder {
+
+        private CommandBus delegate;
+        private ToIntFunction<CommandMessage<?>> priorityCalculator = command -> 0;
+        private int maxInFlight = -1;
+        private final Map<Integer, Integer> admissionLimits = new TreeMap<>();
+
+        /**
+         * Sets the {@link CommandBus} to dispatch admitted commands on.
+         *
+         * @param delegate the {@link CommandBus} to dispatch admitted commands on
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder delegate(CommandBus delegate) {
+            assertNonNull(delegate, "Delegate CommandBus may not be null");
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the function determining the priority of a command. The higher the returned value, the higher the
+         * priority. Defaults to assigning priority {@code 0} to every command. When using Axon Server, the {@code
+         * CommandPriorityCalculator#determinePriority} method can be used as this function.
+         *
+         * @param priorityCalculator the function determining the priority of a command
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder priorityCalculator(ToIntFunction<CommandMessage<?>> priorityCalculator) {
+            assertNonNull(priorityCalculator, "The priority calculator may not be null");
+            this.priorityCalculator = priorityCalculator;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of commands in flight at which commands are still admitted. This limit applies to
+         * commands of any priority for which no {@link #admissionLimit(int, int) admission limit} is defined.
+         *
+         * @param maxInFlight the maximum number of commands in flight
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            assertStrictPositive(maxInFlight, "The maximum number of commands in flight should be a positive number");
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Defines the admission limit for commands with a priority of at least {@code minimumPriority}. The limit of
+         * the highest {@code minimumPriority} not exceeding a command's priority applies. Commands are admitted as long
+         * as the total number of commands in flight is below this limit.
+         * <p>
+         * For example, with a {@link #maxInFlight(int)} of 100 and an admission limit of 120 for priority {@code 10},
+         * commands with a priority of 10 or higher can still be dispatched when 100 commands with a lower priority are
+         * in flight.
+         *
+         * @param minimumPriority the lowest priority the given {@code limit} applies to
+         * @param limit           the maximum number of commands in flight at which commands are still admitted
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder admissionLimit(int minimumPriority, int limit) {
+            assertStrictPositive(limit, "The admission limit should be a positive number");
+            this.admissionLimits.put(minimumPriority, limit);
+            return this;
+        }
+
+        /**
+         * Initializes an {@link AdmissionControlledCommandBus} as specified through this Builder.
+         *
+         * @return an {@link AdmissionControlledCommandBus} as specified through this Builder
+         */
+        public AdmissionControlledCommandBus build() {
+            return new AdmissionControlledCommandBus(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(delegate, "The delegate CommandBus is a hard requirement and should be provided");
+            assertStrictPositive(maxInFlight, "The maximum number of commands in flight is a hard requirement "
+                    + "and should be provided");
+        }
+    }
+}
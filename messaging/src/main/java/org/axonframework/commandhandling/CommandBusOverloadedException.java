@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.common.AxonTransientException;
+
+/**
+ * Exception indicating that a command was rejected because the command bus reached its limit of commands in flight
+ * for the command's priority. As the command may be accepted once capacity frees up, this exception is an {@link
+ * AxonTransientException}. {@link org.axonframework.commandhandling.gateway.RetryScheduler}s will therefore see this
+ * exception as retryable.
+ *
+ * @see AdmissionControlledCommandBus
+ * @author agent
+ * @since 4.6
+ */
+public class CommandBusOverloadedException extends AxonTransientException {
+
+    private static final long serialVersionUID = 4381609357413208347L;
+
+    /**
+     * Initialize a CommandBusOverloadedException with the given {@code message}.
+     *
+     * @param message the message describing the cause of the exception
+     */
+    public CommandBusOverloadedException(String message) {
+        super(message);
+    }
+}
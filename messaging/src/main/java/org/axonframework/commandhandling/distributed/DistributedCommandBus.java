@@ -55,6 +55,10 @@
  * <p/>
  * The DistributedCommandBus relies on a {@link CommandBusConnector} to dispatch commands and replies to different
  * segments of the CommandBus. Depending on the implementation used, each segment may run in a different JVM.
+ * <p/>
+ * When {@link Builder#localSegmentShortCut(boolean) enabled}, commands for which the {@link CommandRouter} selects the
+ * {@link Member#local() local} member are dispatched directly on the {@link #localSegment() local segment}, bypassing
+ * the {@link CommandBusConnector} and any serialization or thread hand-off it may introduce.
  *
  * @author Allard Buijze
  * @since 2.0
@@ -74,6 +78,9 @@ public class DistributedCommandBus implements CommandBus, Distributed<CommandBus
     private final CommandRouter commandRouter;
     private final CommandBusConnector connector;
     private final MessageMonitor<? super CommandMessage<?>> messageMonitor;
+    private final MessageMonitor<? super CommandMessage<?>> localDispatchMonitor;
+    private final MessageMonitor<? super CommandMessage<?>> remoteDispatchMonitor;
+    private final boolean localSegmentShortCut;
 
     private final List<MessageDispatchInterceptor<? super CommandMessage<?>>> dispatchInterceptors = new CopyOnWriteArrayList<>();
     private final AtomicReference<CommandMessageFilter> commandFilter = new AtomicReference<>(DenyAll.INSTANCE);
@@ -84,8 +91,9 @@ public class DistributedCommandBus implements CommandBus, Distributed<CommandBus
     /**
      * Instantiate a Builder to be able to create a {@link DistributedCommandBus}.
      * <p>
-     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}. The {@link CommandRouter} and {@link
-     * CommandBusConnector} are <b>hard requirements</b> and as such should be provided.
+     * The {@link MessageMonitor}, local dispatch {@code MessageMonitor} and remote dispatch {@code MessageMonitor} are
+     * defaulted to a {@link NoOpMessageMonitor}. The local segment short-cut is disabled by default. The {@link
+     * CommandRouter} and {@link CommandBusConnector} are <b>hard requirements</b> and as such should be provided.
      *
      * @return a Builder to be able to create a {@link DistributedCommandBus}
      */
@@ -106,6 +114,9 @@ protected DistributedCommandBus(Builder builder) {
         this.commandRouter = builder.commandRouter;
         this.connector = builder.connector;
         this.messageMonitor = builder.messageMonitor;
+        this.localDispatchMonitor = builder.localDispatchMonitor;
+        this.remoteDispatchMonitor = builder.remoteDispatchMonitor;
+        this.localSegmentShortCut = builder.localSegmentShortCut;
         this.defaultCommandCallback = builder.defaultCommandCallback;
     }
 
@@ -138,15 +149,24 @@ public <C> void dispatch(CommandMessage<C> command) {
         }
 
         LoggingCallback loggingCallback = LoggingCallback.INSTANCE;
-        if (NoOpMessageMonitor.INSTANCE.equals(messageMonitor)) {
+        if (NoOpMessageMonitor.INSTANCE.equals(messageMonitor)
+                && NoOpMessageMonitor.INSTANCE.equals(localDispatchMonitor)
+                && NoOpMessageMonitor.INSTANCE.equals(remoteDispatchMonitor)) {
             CommandMessage<? extends C> interceptedCommand = intercept(command);
             Optional<Member> optionalDestination = commandRouter.findDestination(interceptedCommand);
             if (optionalDestination.isPresent()) {
                 Member destination = optionalDestination.get();
+                Optional<CommandBus> localSegment = shortCutSegment(destination);
                 try {
-                    connector.send(destination, interceptedCommand);
+                    if (localSegment.isPresent()) {
+                        localSegment.get().dispatch(interceptedCommand);
+                    } else {
+                        connector.send(destination, interceptedCommand);
+                    }
                 } catch (Exception e) {
-                    destination.suspect();
+                    if (!localSegment.isPresent()) {
+                        destination.suspect();
+                    }
                     loggingCallback.onResult(interceptedCommand, asCommandResultMessage(
                             new CommandDispatchException(DISPATCH_ERROR_MESSAGE + ": " + e.getMessage(), e)
                     ));
@@ -173,13 +193,25 @@ public <C, R> void dispatch(CommandMessage<C> command, CommandCallback<? super C
         Optional<Member> optionalDestination = commandRouter.findDestination(interceptedCommand);
         if (optionalDestination.isPresent()) {
             Member destination = optionalDestination.get();
+            Optional<CommandBus> localSegment = shortCutSegment(destination);
+            MessageMonitor.MonitorCallback dispatchMonitorCallback =
+                    localSegment.isPresent() ? localDispatchMonitor.onMessageIngested(interceptedCommand)
+                            : remoteDispatchMonitor.onMessageIngested(interceptedCommand);
             try {
-                connector.send(destination,
-                               interceptedCommand,
-                               new MonitorAwareCallback<>(callback, messageMonitorCallback));
+                CommandCallback<? super C, ? super R> monitoredCallback = new MonitorAwareCallback<>(
+                        new MonitorAwareCallback<>(callback, dispatchMonitorCallback), messageMonitorCallback
+                );
+                if (localSegment.isPresent()) {
+                    localSegment.get().dispatch(interceptedCommand, monitoredCallback);
+                } else {
+                    connector.send(destination, interceptedCommand, monitoredCallback);
+                }
             } catch (Exception e) {
                 messageMonitorCallback.reportFailure(e);
-                destination.suspect();
+                dispatchMonitorCallback.reportFailure(e);
+                if (!localSegment.isPresent()) {
+                    destination.suspect();
+                }
                 callback.onResult(interceptedCommand, asCommandResultMessage(
                         new CommandDispatchException(DISPATCH_ERROR_MESSAGE + ": " + e.getMessage(), e)
                 ));
@@ -193,6 +225,21 @@ public <C, R> void dispatch(CommandMessage<C> command, CommandCallback<? super C
         }
     }
 
+    /**
+     * Returns the local segment to dispatch on directly when the local segment short-cut is enabled and the given
+     * {@code destination} is the {@link Member#local() local} member. Otherwise, an empty {@link Optional} is
+     * returned, signalling the command should be sent through the {@link CommandBusConnector}.
+     *
+     * @param destination the {@link Member} selected by the {@link CommandRouter}
+     * @return the local segment to short-cut to, or an empty {@link Optional} if the connector should be used
+     */
+    private Optional<CommandBus> shortCutSegment(Member destination) {
+        if (!localSegmentShortCut || !destination.local()) {
+            return Optional.empty();
+        }
+        return connector.localSegment();
+    }
+
     @SuppressWarnings("unchecked")
     private <C> CommandMessage<? extends C> intercept(CommandMessage<C> command) {
         CommandMessage<? extends C> interceptedCommand = command;
@@ -278,8 +325,9 @@ public Registration registerHandlerInterceptor(
     /**
      * Builder class to instantiate a {@link DistributedCommandBus}.
      * <p>
-     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}. The {@link CommandRouter} and {@link
-     * CommandBusConnector} are <b>hard requirements</b> and as such should be provided.
+     * The {@link MessageMonitor}, local dispatch {@code MessageMonitor} and remote dispatch {@code MessageMonitor} are
+     * defaulted to a {@link NoOpMessageMonitor}. The local segment short-cut is disabled by default. The {@link
+     * CommandRouter} and {@link CommandBusConnector} are <b>hard requirements</b> and as such should be provided.
      */
     public static class Builder {
 
@@ -287,6 +335,9 @@ public static class Builder {
         private CommandRouter commandRouter;
         private CommandBusConnector connector;
         private MessageMonitor<? super CommandMessage<?>> messageMonitor = NoOpMessageMonitor.INSTANCE;
+        private MessageMonitor<? super CommandMessage<?>> localDispatchMonitor = NoOpMessageMonitor.INSTANCE;
+        private MessageMonitor<? super CommandMessage<?>> remoteDispatchMonitor = NoOpMessageMonitor.INSTANCE;
+        private boolean localSegmentShortCut = false;
 
         /**
          * Sets the {@link CommandRouter} used to determine the target node for each dispatched command.
@@ -327,6 +378,49 @@ public Builder messageMonitor(MessageMonitor<? super CommandMessage<?>> messageM
             return this;
         }
 
+        /**
+         * Sets the {@link MessageMonitor} notified of commands which are dispatched directly on the local segment
+         * through the {@link #localSegmentShortCut(boolean) local segment short-cut}. Defaults to a {@link
+         * NoOpMessageMonitor}.
+         *
+         * @param localDispatchMonitor a {@link MessageMonitor} notified of commands dispatched on the local segment
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder localDispatchMonitor(MessageMonitor<? super CommandMessage<?>> localDispatchMonitor) {
+            assertNonNull(localDispatchMonitor, "Local dispatch MessageMonitor may not be null");
+            this.localDispatchMonitor = localDispatchMonitor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link MessageMonitor} notified of commands which are sent through the {@link CommandBusConnector}.
+         * Defaults to a {@link NoOpMessageMonitor}.
+         *
+         * @param remoteDispatchMonitor a {@link MessageMonitor} notified of commands sent through the {@link
+         *                              CommandBusConnector}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder remoteDispatchMonitor(MessageMonitor<? super CommandMessage<?>> remoteDispatchMonitor) {
+            assertNonNull(remoteDispatchMonitor, "Remote dispatch MessageMonitor may not be null");
+            this.remoteDispatchMonitor = remoteDispatchMonitor;
+            return this;
+        }
+
+        /**
+         * Sets whether commands routed to the {@link Member#local() local} member should be dispatched directly on the
+         * {@link CommandBusConnector#localSegment() local segment}, instead of being sent through the {@link
+         * CommandBusConnector}. Dispatch interceptors and the {@link MessageMonitor} are invoked just as for remote
+         * commands. When the connector does not expose a local segment, commands are sent through the connector
+         * regardless. Defaults to {@code false}.
+         *
+         * @param localSegmentShortCut {@code true} to dispatch locally owned commands on the local segment directly
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder localSegmentShortCut(boolean localSegmentShortCut) {
+            this.localSegmentShortCut = localSegmentShortCut;
+            return this;
+        }
+
         /**
          * Sets the callback to use when commands are dispatched in a "fire and forget" method, such as {@link
          * #dispatch(CommandMessage)}. Defaults to using no callback, which requests the connectors to use a
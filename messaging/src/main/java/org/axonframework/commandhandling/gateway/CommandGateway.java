@@ -22,9 +22,13 @@
 import org.axonframework.commandhandling.distributed.CommandDispatchException;
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.MessageDispatchInterceptorSupport;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Interface towards the Command Handling components of an application. This interface provides a friendlier API toward
@@ -116,4 +120,43 @@ public interface CommandGateway extends MessageDispatchInterceptorSupport<Comman
      * command execution result
      */
     <R> CompletableFuture<R> send(Object command);
+
+    /**
+     * Sends the given {@code command} and returns a {@link Publisher} emitting the elements of the command's result.
+     * The command is dispatched once the returned {@code Publisher} is subscribed to.
+     * <p/>
+     * When the command handler returns a {@link Publisher} itself, its elements are relayed to the subscriber with
+     * demand propagated to the handler's {@code Publisher}, allowing large results to be produced chunk by chunk
+     * instead of being materialized in memory. A {@link Stream} or {@link Iterable} result is emitted element by
+     * element, a {@code null} result completes the {@code Publisher} without elements and any other result is emitted
+     * as a single element. Command execution failures are signalled through {@link
+     * org.reactivestreams.Subscriber#onError(Throwable)}.
+     * <p/>
+     * Note that a {@code Publisher} result can only be carried by a command bus handling the command within this JVM,
+     * like the {@link org.axonframework.commandhandling.SimpleCommandBus} or a {@link
+     * org.axonframework.commandhandling.distributed.DistributedCommandBus} with its local segment short-cut enabled.
+     * Buses sending results over the wire deliver a serialized result, which is emitted according to the rules
+     * above. Furthermore, a {@code Publisher} result is consumed after the command handler's {@link
+     * org.axonframework.messaging.unitofwork.UnitOfWork} has been completed.
+     * <p/>
+     * This method requires Project Reactor on the classpath.
+     *
+     * @param command the command to dispatch
+     * @param <R>     the type of the elements of the command's result
+     * @return a {@link Publisher} emitting the elements of the command's result
+     */
+    @SuppressWarnings("unchecked")
+    default <R> Publisher<R> sendStreaming(Object command) {
+        return Mono.defer(() -> Mono.fromFuture(this.<Object>send(command)))
+                   .flatMapMany(result -> {
+                       if (result instanceof Publisher) {
+                           return Flux.from((Publisher<R>) result);
+                       } else if (result instanceof Stream) {
+                           return Flux.fromStream((Stream<R>) result);
+                       } else if (result instanceof Iterable) {
+                           return Flux.fromIterable((Iterable<R>) result);
+                       }
+                       return Flux.just((R) result);
+                   });
+    }
 }
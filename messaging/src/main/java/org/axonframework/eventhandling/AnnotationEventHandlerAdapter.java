@@ -26,10 +26,17 @@
 import org.axonframework.messaging.annotation.MessageHandlingMember;
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Adapter that turns any bean with {@link EventHandler} annotated methods into an {@link EventMessageHandler}.
+ * <p>
+ * The handlers which may handle a given payload type are determined once per concrete payload class, so dispatching an
+ * event only evaluates the handlers capable of handling its payload type.
  *
  * @author Allard Buijze
  * @see EventMessageHandler
@@ -40,6 +47,8 @@ public class AnnotationEventHandlerAdapter implements EventMessageHandler {
     private final AnnotatedHandlerInspector<Object> inspector;
     private final Class<?> listenerType;
     private final Object annotatedEventListener;
+    private final Map<Class<?>, List<MessageHandlingMember<? super Object>>> handlersByPayloadType =
+            new ConcurrentHashMap<>();
 
     /**
      * Wraps the given {@code annotatedEventListener}, allowing it to be subscribed to an Event Bus.
@@ -85,21 +94,43 @@ public AnnotationEventHandlerAdapter(Object annotatedEventListener,
 
     @Override
     public Object handle(EventMessage<?> event) throws Exception {
-        Optional<MessageHandlingMember<? super Object>> handler =
-                inspector.getHandlers(listenerType)
-                         .filter(h -> h.canHandle(event))
-                         .findFirst();
-        if (handler.isPresent()) {
-            MessageHandlerInterceptorMemberChain<Object> interceptor = inspector.chainedInterceptor(listenerType);
-            return interceptor.handle(event, annotatedEventListener, handler.get());
+        for (MessageHandlingMember<? super Object> handler : handlersFor(event.getPayloadType())) {
+            if (handler.canHandle(event)) {
+                MessageHandlerInterceptorMemberChain<Object> interceptor = inspector.chainedInterceptor(listenerType);
+                return interceptor.handle(event, annotatedEventListener, handler);
+            }
         }
         return null;
     }
 
     @Override
     public boolean canHandle(EventMessage<?> event) {
-        return inspector.getHandlers(listenerType)
-                        .anyMatch(h -> h.canHandle(event));
+        for (MessageHandlingMember<? super Object> handler : handlersFor(event.getPayloadType())) {
+            if (handler.canHandle(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the handlers of the listener which are capable of handling the given {@code payloadType}, in the order
+     * they should be evaluated. The result is computed once per payload type and cached afterwards.
+     *
+     * @param payloadType the payload type to return the candidate handlers for
+     * @return the handlers which are capable of handling the given {@code payloadType}
+     */
+    private List<MessageHandlingMember<? super Object>> handlersFor(Class<?> payloadType) {
+        List<MessageHandlingMember<? super Object>> handlers = handlersByPayloadType.get(payloadType);
+        if (handlers == null) {
+            handlers = handlersByPayloadType.computeIfAbsent(
+                    payloadType,
+                    type -> inspector.getHandlers(listenerType)
+                                     .filter(h -> h.canHandleType(type))
+                                     .collect(Collectors.toList())
+            );
+        }
+        return handlers;
     }
 
     @Override
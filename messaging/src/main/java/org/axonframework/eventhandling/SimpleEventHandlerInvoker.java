@@ -26,7 +26,9 @@
 import java.util.Collections;
 import java.util.EventListener;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -37,6 +39,10 @@
 /**
  * Implementation of an {@link EventHandlerInvoker} that forwards events to a list of registered
  * {@link EventMessageHandler}.
+ * <p>
+ * Events are not forwarded to {@link AnnotationEventHandlerAdapter}s which have no handler for the event's payload
+ * type. Which adapters apply to a payload type is determined once per concrete payload class. Other {@link
+ * EventMessageHandler} implementations receive every event.
  *
  * @author Rene de Waele
  * @since 3.0
@@ -47,6 +53,7 @@ public class SimpleEventHandlerInvoker implements EventHandlerInvoker {
     private final List<EventMessageHandler> wrappedEventHandlers;
     private final ListenerInvocationErrorHandler listenerInvocationErrorHandler;
     private final SequencingPolicy<? super EventMessage<?>> sequencingPolicy;
+    private final Map<Class<?>, List<EventMessageHandler>> handlersByPayloadType = new ConcurrentHashMap<>();
 
     /**
      * Instantiate a {@link SimpleEventHandlerInvoker} based on the fields contained in the {@link Builder}.
@@ -107,7 +114,7 @@ public List<?> eventHandlers() {
     @Override
     public void handle(EventMessage<?> message, Segment segment) throws Exception {
         if (sequencingPolicyMatchesSegment(message, segment)) {
-            for (EventMessageHandler handler : wrappedEventHandlers) {
+            for (EventMessageHandler handler : handlersFor(message.getPayloadType())) {
                 try {
                     handler.handle(message);
                 } catch (Exception e) {
@@ -128,7 +135,7 @@ public boolean canHandleType(Class<?> payloadType) {
     }
 
     private boolean hasHandler(EventMessage<?> eventMessage) {
-        for (EventMessageHandler eventHandler : wrappedEventHandlers) {
+        for (EventMessageHandler eventHandler : handlersFor(eventMessage.getPayloadType())) {
             if (eventHandler.canHandle(eventMessage)) {
                 return true;
             }
@@ -136,6 +143,29 @@ private boolean hasHandler(EventMessage<?> eventMessage) {
         return false;
     }
 
+    /**
+     * Returns the event handlers which may be capable of handling the given {@code payloadType}, in registration order.
+     * Only {@link AnnotationEventHandlerAdapter}s are excluded based on {@link EventMessageHandler#canHandleType(Class)},
+     * as their answer is derived from the inspected handlers. The result is computed once per payload type and cached
+     * afterwards.
+     *
+     * @param payloadType the payload type to return the candidate event handlers for
+     * @return the event handlers which are capable of handling the given {@code payloadType}
+     */
+    private List<EventMessageHandler> handlersFor(Class<?> payloadType) {
+        List<EventMessageHandler> handlers = handlersByPayloadType.get(payloadType);
+        if (handlers == null) {
+            handlers = handlersByPayloadType.computeIfAbsent(
+                    payloadType,
+                    type -> wrappedEventHandlers.stream()
+                                                .filter(handler -> !(handler instanceof AnnotationEventHandlerAdapter)
+                                                        || handler.canHandleType(type))
+                                                .collect(Collectors.toList())
+            );
+        }
+        return handlers;
+    }
+
     @Override
     public boolean supportsReset() {
         for (EventMessageHandler eventHandler : wrappedEventHandlers) {
@@ -16,8 +16,11 @@
 
 package org.axonframework.messaging;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -28,6 +31,17 @@
 /**
  * Represents MetaData that is passed along with a payload in a Message. Typically, the MetaData contains information
  * about the message payload that isn't "domain-specific". Examples are originating IP-address or executing User ID.
+ * <p>
+ * As most messages only carry a handful of entries, small MetaData instances are backed by a compact array based
+ * representation instead of a hash table. Keys are interned through a small, fixed size cache, so that recurring keys
+ * (like correlation and trace identifiers) read from serialized messages do not retain a copy of the same String for
+ * every message. Keys competing for the same cache slot evict each other, so the cache only holds on to recently used
+ * keys.
+ * <p>
+ * Adding entries to larger MetaData instances, through {@link #and(String, Object)} or {@link #mergedWith(Map)}, does
+ * not copy the existing entries. Instead, the additional entries are layered on top of the entries of the original
+ * instance, which are shared between both. Once too many layers are stacked, the entries are flattened into a single
+ * map again.
  *
  * @author Allard Buijze
  * @since 2.0
@@ -37,6 +51,10 @@ public class MetaData implements Map<String, Object>, Serializable {
     private static final long serialVersionUID = -7892913866303912970L;
     private static final MetaData EMPTY_META_DATA = new MetaData();
     private static final String UNSUPPORTED_MUTATION_MSG = "Metadata is immutable.";
+    private static final int COMPACT_THRESHOLD = 8;
+    private static final int MAX_OVERLAY_DEPTH = 8;
+    private static final int INTERNED_KEY_SLOTS = 1024;
+    private static final AtomicReferenceArray<String> INTERNED_KEYS = new AtomicReferenceArray<>(INTERNED_KEY_SLOTS);
 
     private final Map<String, Object> values;
 
@@ -52,7 +70,62 @@ private MetaData() {
      * @param items the items to populate the MetaData with
      */
     public MetaData(Map<String, ?> items) {
-        values = Collections.unmodifiableMap(new HashMap<>(items));
+        values = immutableCopyOf(items);
+    }
+
+    private MetaData(Map<String, Object> entries, Map<String, ?> additionalEntries) {
+        values = merge(entries, additionalEntries);
+    }
+
+    private static Map<String, Object> immutableCopyOf(Map<String, ?> items) {
+        if (items.size() <= COMPACT_THRESHOLD) {
+            return new CompactMap(items, Collections.emptyMap(), items.size());
+        }
+        Map<String, Object> copy = new HashMap<>(items.size() * 4 / 3 + 1);
+        items.forEach((key, value) -> copy.put(intern(key), value));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static Map<String, Object> merge(Map<String, Object> entries, Map<String, ?> additionalEntries) {
+        int size = entries.size();
+        for (String key : additionalEntries.keySet()) {
+            if (!entries.containsKey(key)) {
+                size++;
+            }
+        }
+        if (size <= COMPACT_THRESHOLD) {
+            return new CompactMap(entries, additionalEntries, size);
+        }
+        Map<String, Object> sharedOverlay = additionalEntries instanceof MetaData
+                ? ((MetaData) additionalEntries).values
+                : null;
+        int depth = Math.max(depthOf(entries), depthOf(sharedOverlay)) + 1;
+        if (depth > MAX_OVERLAY_DEPTH) {
+            Map<String, Object> flattened = new HashMap<>(size * 4 / 3 + 1);
+            flattened.putAll(entries);
+            additionalEntries.forEach((key, value) -> flattened.put(intern(key), value));
+            return Collections.unmodifiableMap(flattened);
+        }
+        Map<String, Object> overlay = sharedOverlay != null ? sharedOverlay : immutableCopyOf(additionalEntries);
+        return new OverlayMap(entries, overlay, size, depth);
+    }
+
+    private static int depthOf(Map<String, Object> entries) {
+        return entries instanceof OverlayMap ? ((OverlayMap) entries).depth : 0;
+    }
+
+    private static String intern(String key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = key.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (INTERNED_KEY_SLOTS - 1);
+        String interned = INTERNED_KEYS.get(slot);
+        if (key.equals(interned)) {
+            return interned;
+        }
+        INTERNED_KEYS.lazySet(slot, key);
+        return key;
     }
 
     /**
@@ -104,9 +177,7 @@ public static MetaData with(String key, Object value) {
      * @return a MetaData instance with an additional entry
      */
     public MetaData and(String key, Object value) {
-        HashMap<String, Object> newValues = new HashMap<>(values);
-        newValues.put(key, value);
-        return new MetaData(newValues);
+        return new MetaData(values, Collections.singletonMap(key, value));
     }
 
     /**
@@ -238,9 +309,7 @@ public MetaData mergedWith(Map<String, ?> additionalEntries) {
         if (isEmpty()) {
             return MetaData.from(additionalEntries);
         }
-        Map<String, Object> merged = new HashMap<>(values);
-        merged.putAll(additionalEntries);
-        return new MetaData(merged);
+        return new MetaData(values, additionalEntries);
     }
 
     /**
@@ -271,6 +340,19 @@ public MetaData subset(String... keys) {
         return MetaData.from(Stream.of(keys).filter(this::containsKey).collect(new MetaDataCollector(this::get)));
     }
 
+    /**
+     * Java Serialization specification method that writes the entries of this MetaData as a regular {@link HashMap},
+     * keeping the serialized form independent of the internal representation used by this instance.
+     *
+     * @param out the stream to write this MetaData instance to
+     * @throws IOException if an I/O error occurs while writing to the stream
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("values", Collections.unmodifiableMap(new HashMap<>(values)));
+        out.writeFields();
+    }
+
     /**
      * Java Serialization specification method that will ensure that deserialization will maintain a single instance of
      * empty MetaData.
@@ -338,4 +420,192 @@ public Set<Characteristics> characteristics() {
             return Collections.emptySet();
         }
     }
+
+    /**
+     * Immutable array backed Map implementation used for MetaData with few entries. Lookups do a linear scan over the
+     * keys, which for small sizes is cheaper than hashing and takes far less memory than a hash table.
+     */
+    private static final class CompactMap extends AbstractMap<String, Object> {
+
+        private final String[] keys;
+        private final Object[] values;
+
+        private CompactMap(Map<String, ?> entries, Map<String, ?> additionalEntries, int size) {
+            keys = new String[size];
+            values = new Object[size];
+            int index = 0;
+            for (Entry<String, ?> entry : entries.entrySet()) {
+                keys[index] = intern(entry.getKey());
+                values[index] = additionalEntries.containsKey(entry.getKey())
+                        ? additionalEntries.get(entry.getKey())
+                        : entry.getValue();
+                index++;
+            }
+            for (Entry<String, ?> entry : additionalEntries.entrySet()) {
+                if (!entries.containsKey(entry.getKey())) {
+                    keys[index] = intern(entry.getKey());
+                    values[index] = entry.getValue();
+                    index++;
+                }
+            }
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key || (key != null && key.equals(keys[i]))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int index = indexOf(key);
+            return index < 0 ? null : values[index];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return keys.length == 0;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<Entry<String, Object>>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                            index++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            };
+        }
+    }
+
+    /**
+     * Immutable Map implementation layering the entries of an overlay on top of those of a base map. Entries in the
+     * overlay take precedence over entries with the same key in the base map. Both maps are shared rather than copied,
+     * making the creation of an overlay proportional to the number of entries in the overlay. As a consequence, values
+     * in the base map that are overwritten by the overlay remain referenced until the overlay is flattened.
+     * <p>
+     * The depth of an overlay is the highest depth of its base and overlay maps, plus one. Once it would exceed {@code
+     * MAX_OVERLAY_DEPTH}, the entries are flattened into a single map instead, bounding the recursion of lookups.
+     */
+    private static final class OverlayMap extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> base;
+        private final Map<String, Object> overlay;
+        private final int size;
+        private final int depth;
+
+        private OverlayMap(Map<String, Object> base, Map<String, Object> overlay, int size, int depth) {
+            this.base = base;
+            this.overlay = overlay;
+            this.size = size;
+            this.depth = depth;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = overlay.get(key);
+            if (value != null || overlay.containsKey(key)) {
+                return value;
+            }
+            return base.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return overlay.containsKey(key) || base.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<Entry<String, Object>>() {
+                        private final Iterator<Entry<String, Object>> overlayEntries = overlay.entrySet().iterator();
+                        private final Iterator<Entry<String, Object>> baseEntries = base.entrySet().iterator();
+                        private Entry<String, Object> next;
+
+                        @Override
+                        public boolean hasNext() {
+                            if (next != null) {
+                                return true;
+                            }
+                            if (overlayEntries.hasNext()) {
+                                next = overlayEntries.next();
+                                return true;
+                            }
+                            while (baseEntries.hasNext()) {
+                                Entry<String, Object> candidate = baseEntries.next();
+                                if (!overlay.containsKey(candidate.getKey())) {
+                                    next = candidate;
+                                    return true;
+                                }
+                            }
+                            return false;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Object> result = next;
+                            next = null;
+                            return result;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
 }
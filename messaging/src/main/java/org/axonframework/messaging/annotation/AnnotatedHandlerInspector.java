@@ -18,6 +18,8 @@
 
 import org.axonframework.messaging.Message;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -31,6 +33,7 @@
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,6 +49,10 @@
  */
 public class AnnotatedHandlerInspector<T> {
 
+    private static final Object monitor = new Object();
+    private static final Map<Class<?>, List<DeclaredMembers>> DECLARED_MEMBERS = new WeakHashMap<>();
+    private static final ReferenceQueue<Object> STALE_DECLARED_MEMBERS = new ReferenceQueue<>();
+
     private final Class<T> inspectedType;
     private final ParameterResolverFactory parameterResolverFactory;
     private final Map<Class<?>, AnnotatedHandlerInspector<?>> registry;
@@ -55,6 +62,8 @@
     private final HandlerDefinition handlerDefinition;
     private final Map<Class<?>, MessageHandlerInterceptorMemberChain<T>> interceptorChains;
     private final Map<Class<?>, SortedSet<MessageHandlingMember<? super T>>> interceptors;
+    // strongly referenced to keep the cached entry in DECLARED_MEMBERS alive for as long as this inspector is in use
+    private List<MessageHandlingMember<?>> declaredMembers;
 
     private AnnotatedHandlerInspector(Class<T> inspectedType,
                                       List<AnnotatedHandlerInspector<? super T>> superClassInspectors,
@@ -199,14 +208,8 @@ private static <T> AnnotatedHandlerInspector<T> initialize(Class<T> inspectedTyp
     private void initializeMessageHandlers(ParameterResolverFactory parameterResolverFactory,
                                            HandlerDefinition handlerDefinition) {
         handlers.put(inspectedType, new TreeSet<>(HandlerComparator.instance()));
-        for (Method method : inspectedType.getDeclaredMethods()) {
-            handlerDefinition.createHandler(inspectedType, method, parameterResolverFactory)
-                             .ifPresent(h -> registerHandler(inspectedType, h));
-        }
-        for (Constructor<?> constructor : inspectedType.getDeclaredConstructors()) {
-            handlerDefinition.createHandler(inspectedType, constructor, parameterResolverFactory)
-                             .ifPresent(h -> registerHandler(inspectedType, h));
-        }
+        declaredMembers = declaredMembers(inspectedType, parameterResolverFactory, handlerDefinition);
+        declaredMembers.forEach(h -> registerHandler(inspectedType, (MessageHandlingMember<T>) h));
 
         // we need to consider handlers from parent/subclasses as well
         subClassInspectors.forEach(sci -> sci.getAllHandlers()
@@ -227,6 +230,84 @@ private void initializeMessageHandlers(ParameterResolverFactory parameterResolve
                                                })));
     }
 
+    /**
+     * Returns the handlers declared directly on the given {@code type}, as created by the given {@code
+     * handlerDefinition} and {@code parameterResolverFactory}. Since the outcome only depends on these three
+     * arguments, it is shared between inspectors, preventing the same class (for example a common superclass of
+     * several event handlers) from being reflected upon over and over again. The type, the members, the {@code
+     * parameterResolverFactory} and the {@code handlerDefinition} are all weakly referenced by the cache. Entries are
+     * thus only retained as long as an inspector referring to them is in use, and never prevent the type, the
+     * factory, the definition or their class loaders from being garbage collected.
+     */
+    private static List<MessageHandlingMember<?>> declaredMembers(Class<?> type,
+                                                                  ParameterResolverFactory parameterResolverFactory,
+                                                                  HandlerDefinition handlerDefinition) {
+        List<MessageHandlingMember<?>> members = findDeclaredMembers(type, parameterResolverFactory, handlerDefinition);
+        if (members != null) {
+            return members;
+        }
+        members = new ArrayList<>();
+        for (Method method : type.getDeclaredMethods()) {
+            handlerDefinition.createHandler(type, method, parameterResolverFactory).ifPresent(members::add);
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            handlerDefinition.createHandler(type, constructor, parameterResolverFactory).ifPresent(members::add);
+        }
+        synchronized (monitor) {
+            List<MessageHandlingMember<?>> concurrentlyCreated =
+                    findDeclaredMembers(type, parameterResolverFactory, handlerDefinition);
+            if (concurrentlyCreated != null) {
+                return concurrentlyCreated;
+            }
+            DECLARED_MEMBERS.computeIfAbsent(type, t -> new ArrayList<>())
+                            .add(new DeclaredMembers(parameterResolverFactory, handlerDefinition, members));
+        }
+        return members;
+    }
+
+    private static List<MessageHandlingMember<?>> findDeclaredMembers(Class<?> type,
+                                                                      ParameterResolverFactory parameterResolverFactory,
+                                                                      HandlerDefinition handlerDefinition) {
+        synchronized (monitor) {
+            expungeStaleDeclaredMembers();
+            List<DeclaredMembers> candidates = DECLARED_MEMBERS.get(type);
+            if (candidates == null) {
+                return null;
+            }
+            for (DeclaredMembers candidate : candidates) {
+                List<MessageHandlingMember<?>> members = candidate.membersFor(parameterResolverFactory,
+                                                                              handlerDefinition);
+                if (members != null) {
+                    return members;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Removes the cached declared members of which the members, the parameter resolver factory or the handler
+     * definition has been garbage collected, of any type. Only sweeps the cache if a reference has been cleared since
+     * the previous sweep. Should be invoked while holding the {@code monitor}.
+     */
+    private static void expungeStaleDeclaredMembers() {
+        if (STALE_DECLARED_MEMBERS.poll() == null) {
+            return;
+        }
+        //noinspection StatementWithEmptyBody
+        while (STALE_DECLARED_MEMBERS.poll() != null) {
+            // drain the queue, as a single sweep removes all stale entries
+        }
+        Iterator<List<DeclaredMembers>> iterator = DECLARED_MEMBERS.values().iterator();
+        while (iterator.hasNext()) {
+            List<DeclaredMembers> candidates = iterator.next();
+            candidates.removeIf(DeclaredMembers::isStale);
+            if (candidates.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
     private void registerHandler(Class<?> type, MessageHandlingMember<? super T> handler) {
         if (handler.unwrap(MessageInterceptingMember.class).isPresent()) {
             interceptors.computeIfAbsent(type, t -> new TreeSet<>(HandlerComparator.instance()))
@@ -334,6 +415,39 @@ public Set<Class<?>> getAllInspectedTypes() {
         return Collections.unmodifiableSet(inspectedTypes);
     }
 
+    /**
+     * The members declared on a type, as created by a specific parameter resolver factory and handler definition. All
+     * three are weakly referenced, so the cache never keeps them, nor the class loaders they refer to, alive.
+     */
+    private static class DeclaredMembers {
+
+        private final WeakReference<List<MessageHandlingMember<?>>> members;
+        private final WeakReference<ParameterResolverFactory> parameterResolverFactory;
+        private final WeakReference<HandlerDefinition> handlerDefinition;
+
+        private DeclaredMembers(ParameterResolverFactory parameterResolverFactory,
+                                HandlerDefinition handlerDefinition,
+                                List<MessageHandlingMember<?>> members) {
+            this.members = new WeakReference<>(members, STALE_DECLARED_MEMBERS);
+            this.parameterResolverFactory = new WeakReference<>(parameterResolverFactory, STALE_DECLARED_MEMBERS);
+            this.handlerDefinition = new WeakReference<>(handlerDefinition, STALE_DECLARED_MEMBERS);
+        }
+
+        private List<MessageHandlingMember<?>> membersFor(ParameterResolverFactory parameterResolverFactory,
+                                                          HandlerDefinition handlerDefinition) {
+            return this.parameterResolverFactory.get() == parameterResolverFactory
+                    && this.handlerDefinition.get() == handlerDefinition
+                    ? members.get()
+                    : null;
+        }
+
+        private boolean isStale() {
+            return members.get() == null
+                    || parameterResolverFactory.get() == null
+                    || handlerDefinition.get() == null;
+        }
+    }
+
     private static class ChainedMessageHandlerInterceptorMember<T> implements MessageHandlerInterceptorMemberChain<T> {
         private final MessageHandlingMember<? super T> delegate;
         private final MessageHandlerInterceptorMemberChain<T> next;
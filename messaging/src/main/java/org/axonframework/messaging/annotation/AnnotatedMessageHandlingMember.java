@@ -27,6 +27,7 @@
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -42,10 +43,13 @@
 
     private final Class<?> payloadType;
     private final int parameterCount;
-    private final ParameterResolver<?>[] parameterResolvers;
+    private final ParameterResolver<?>[] dynamicParameterResolvers;
+    private volatile ParameterResolver<?>[] parameterResolvers;
+    private volatile boolean constantValuesResolved;
     private final Executable executable;
     private final Class<? extends Message<?>> messageType;
     private final HandlerAttributes attributes;
+    private final MethodHandleInvoker methodHandleInvoker;
 
     /**
      * Initializes a new instance that will invoke the given {@code executable} (method) on a target to handle a message
@@ -60,13 +64,32 @@ public AnnotatedMessageHandlingMember(Executable executable,
                                           @SuppressWarnings("rawtypes") Class<? extends Message> messageType,
                                           Class<?> explicitPayloadType,
                                           ParameterResolverFactory parameterResolverFactory) {
+        this(executable, messageType, explicitPayloadType, parameterResolverFactory,
+             HandlerInvocationStrategy.REFLECTION);
+    }
+
+    /**
+     * Initializes a new instance that will invoke the given {@code executable} (method) on a target to handle a message
+     * of the given {@code messageType}, using the given {@code invocationStrategy}.
+     *
+     * @param executable               the method to invoke on a target
+     * @param messageType              the type of message that is expected by the target method
+     * @param explicitPayloadType      the expected message payload type
+     * @param parameterResolverFactory factory used to resolve method parameters
+     * @param invocationStrategy       the {@link HandlerInvocationStrategy} used to invoke the {@code executable}
+     */
+    public AnnotatedMessageHandlingMember(Executable executable,
+                                          @SuppressWarnings("rawtypes") Class<? extends Message> messageType,
+                                          Class<?> explicitPayloadType,
+                                          ParameterResolverFactory parameterResolverFactory,
+                                          HandlerInvocationStrategy invocationStrategy) {
         this.executable = executable;
         //noinspection unchecked
         this.messageType = (Class<? extends Message<?>>) messageType;
         ReflectionUtils.ensureAccessible(this.executable);
         Parameter[] parameters = executable.getParameters();
         this.parameterCount = executable.getParameterCount();
-        parameterResolvers = new ParameterResolver[parameterCount];
+        ParameterResolver<?>[] parameterResolvers = new ParameterResolver[parameterCount];
         Class<?> supportedPayloadType = explicitPayloadType;
         for (int i = 0; i < parameterCount; i++) {
             parameterResolvers[i] = parameterResolverFactory.createInstance(executable, parameters, i);
@@ -85,7 +108,17 @@ public AnnotatedMessageHandlingMember(Executable executable,
             }
         }
         this.payloadType = supportedPayloadType;
+        this.parameterResolvers = parameterResolvers;
+        this.dynamicParameterResolvers = Arrays.stream(parameterResolvers)
+                                               .filter(resolver -> !resolver.isConstant())
+                                               .toArray(ParameterResolver[]::new);
+        this.constantValuesResolved = Arrays.stream(parameterResolvers)
+                                            .allMatch(resolver -> !resolver.isConstant()
+                                                    || resolver instanceof FixedValueParameterResolver);
         this.attributes = new AnnotatedHandlerAttributes(executable);
+        this.methodHandleInvoker = invocationStrategy == HandlerInvocationStrategy.METHOD_HANDLE
+                ? MethodHandleInvoker.forExecutable(executable)
+                : null;
     }
 
     @Override
@@ -123,13 +156,14 @@ protected boolean typeMatches(Message<?> message) {
     }
 
     /**
-     * Checks if the parameter resolvers of this member are compatible with the given {@code message}.
+     * Checks if the parameter resolvers of this member are compatible with the given {@code message}. Resolvers which
+     * are {@link ParameterResolver#isConstant() constant} match any message and are therefore not checked.
      *
      * @param message the message to check for
      * @return {@code true} if the parameter resolvers can handle this message. {@code false} otherwise
      */
     protected boolean parametersMatch(Message<?> message) {
-        for (ParameterResolver<?> resolver : parameterResolvers) {
+        for (ParameterResolver<?> resolver : dynamicParameterResolvers) {
             if (!resolver.matches(message)) {
                 return false;
             }
@@ -139,6 +173,9 @@ protected boolean parametersMatch(Message<?> message) {
 
     @Override
     public Object handle(Message<?> message, T target) throws Exception {
+        if (methodHandleInvoker != null) {
+            return invokeMethodHandle(message, target);
+        }
         try {
             if (executable instanceof Method) {
                 return ((Method) executable).invoke(target, resolveParameterValues(message));
@@ -154,6 +191,30 @@ public Object handle(Message<?> message, T target) throws Exception {
         }
     }
 
+    private Object invokeMethodHandle(Message<?> message, T target) throws Exception {
+        try {
+            return methodHandleInvoker.invoke(target, message, resolversFor(message));
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MessageHandlerInvocationException(
+                    String.format("Error handling an object of type [%s]", message.getPayloadType()), e);
+        }
+    }
+
+    /**
+     * Returns the {@link HandlerInvocationStrategy} this member effectively uses to invoke its handler. This is {@link
+     * HandlerInvocationStrategy#REFLECTION} if the {@link HandlerInvocationStrategy#METHOD_HANDLE} strategy was
+     * requested, but no {@link java.lang.invoke.MethodHandle} could be created for the handler.
+     *
+     * @return the {@link HandlerInvocationStrategy} this member effectively uses to invoke its handler
+     */
+    HandlerInvocationStrategy invocationStrategy() {
+        return methodHandleInvoker != null
+                ? HandlerInvocationStrategy.METHOD_HANDLE
+                : HandlerInvocationStrategy.REFLECTION;
+    }
+
     private void checkAndRethrowForExceptionOrError(ReflectiveOperationException e) throws Exception {
         if (e.getCause() instanceof Exception) {
             throw (Exception) e.getCause();
@@ -163,13 +224,36 @@ private void checkAndRethrowForExceptionOrError(ReflectiveOperationException e)
     }
 
     private Object[] resolveParameterValues(Message<?> message) {
+        ParameterResolver<?>[] resolvers = resolversFor(message);
         Object[] params = new Object[parameterCount];
         for (int i = 0; i < parameterCount; i++) {
-            params[i] = parameterResolvers[i].resolveParameterValue(message);
+            params[i] = resolvers[i].resolveParameterValue(message);
         }
         return params;
     }
 
+    /**
+     * Returns the parameter resolvers to use for the given {@code message}. On first use, the values of {@link
+     * ParameterResolver#isConstant() constant} resolvers are resolved once and replaced by a {@link
+     * FixedValueParameterResolver}, so subsequent messages only pay for the resolvers deriving values from the message.
+     *
+     * @param message the message to resolve the parameter values for
+     * @return the parameter resolvers to use for the given {@code message}
+     */
+    private ParameterResolver<?>[] resolversFor(Message<?> message) {
+        if (!constantValuesResolved) {
+            ParameterResolver<?>[] resolvers = parameterResolvers.clone();
+            for (int i = 0; i < parameterCount; i++) {
+                if (resolvers[i].isConstant() && !(resolvers[i] instanceof FixedValueParameterResolver)) {
+                    resolvers[i] = new FixedValueParameterResolver<>(resolvers[i].resolveParameterValue(message));
+                }
+            }
+            parameterResolvers = resolvers;
+            constantValuesResolved = true;
+        }
+        return parameterResolvers;
+    }
+
     @Override
     public boolean hasAnnotation(Class<? extends Annotation> annotationType) {
         return AnnotationUtils.isAnnotationPresent(executable, annotationType);
@@ -34,12 +34,37 @@
  * <p>
  * Use {@link HandlerEnhancerDefinition} to add extra behavior or information on top of handlers created by this
  * definition.
+ * <p>
+ * By default, handlers are invoked through reflection. To opt in to invoking handlers through {@link
+ * java.lang.invoke.MethodHandle}s, construct this definition with {@link HandlerInvocationStrategy#METHOD_HANDLE} and
+ * register it as the {@link HandlerDefinition} of the application.
  *
  * @see HandlerEnhancerDefinition
  * @see org.axonframework.commandhandling.CommandHandler
  * @see org.axonframework.eventhandling.EventHandler
  */
 public class AnnotatedMessageHandlingMemberDefinition implements HandlerDefinition {
+
+    private final HandlerInvocationStrategy invocationStrategy;
+
+    /**
+     * Instantiate an {@link AnnotatedMessageHandlingMemberDefinition} creating handlers which are invoked through
+     * {@link HandlerInvocationStrategy#REFLECTION reflection}.
+     */
+    public AnnotatedMessageHandlingMemberDefinition() {
+        this(HandlerInvocationStrategy.REFLECTION);
+    }
+
+    /**
+     * Instantiate an {@link AnnotatedMessageHandlingMemberDefinition} creating handlers which are invoked using the
+     * given {@code invocationStrategy}.
+     *
+     * @param invocationStrategy the {@link HandlerInvocationStrategy} used by the created handlers
+     */
+    public AnnotatedMessageHandlingMemberDefinition(HandlerInvocationStrategy invocationStrategy) {
+        this.invocationStrategy = invocationStrategy;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<MessageHandlingMember<T>> createHandler(Class<T> declaringType, Executable executable,
@@ -49,6 +74,7 @@ public <T> Optional<MessageHandlingMember<T>> createHandler(Class<T> declaringTy
                         executable,
                         (Class<? extends Message<?>>) attr.getOrDefault("messageType", Message.class),
                         (Class<? extends Message<?>>) attr.getOrDefault("payloadType", Object.class),
-                        parameterResolverFactory));
+                        parameterResolverFactory,
+                        invocationStrategy));
     }
 }
@@ -48,4 +48,15 @@ public T resolveParameterValue(Message message) {
     public boolean matches(Message message) {
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only instances of this exact class are constant. Subclasses may override {@link #matches(Message)} or {@link
+     * #resolveParameterValue(Message)}, and thus have to override this method as well to be treated as constant.
+     */
+    @Override
+    public boolean isConstant() {
+        return getClass() == FixedValueParameterResolver.class;
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+/**
+ * Enumeration of the strategies an {@link AnnotatedMessageHandlingMember} may use to invoke its handler method or
+ * constructor.
+ *
+ * @see AnnotatedMessageHandlingMemberDefinition#AnnotatedMessageHandlingMemberDefinition(HandlerInvocationStrategy)
+ * @author agent
+ * @since 4.6
+ */
+public enum HandlerInvocationStrategy {
+
+    /**
+     * Invokes the handler through {@link java.lang.reflect.Method#invoke(Object, Object...)} or {@link
+     * java.lang.reflect.Constructor#newInstance(Object...)}. This is the default strategy.
+     */
+    REFLECTION,
+
+    /**
+     * Invokes the handler through a {@link java.lang.invoke.MethodHandle} created when the handler is inspected. The
+     * handle is specialized on the number of parameters, avoiding the parameter array allocation for handlers with up
+     * to four parameters. When no {@code MethodHandle} can be created for a handler, for example because access rules
+     * prevent it, that handler falls back to {@link #REFLECTION}.
+     */
+    METHOD_HANDLE
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import org.axonframework.messaging.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a handler {@link Executable} through a {@link MethodHandle}, resolving the parameter values straight from
+ * the given {@link ParameterResolver}s. The handle is adapted to a generic signature taking the target followed by
+ * the parameters as {@link Object}s, which allows invocations with up to four parameters without allocating a
+ * parameter array. Handlers with more parameters are invoked through a spreading handle.
+ *
+ * @see HandlerInvocationStrategy#METHOD_HANDLE
+ * @author agent
+ * @since 4.6
+ */
+final class MethodHandleInvoker {
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int MAX_SPECIALIZED_PARAMETER_COUNT = 4;
+
+    private final MethodHandle handle;
+    private final int parameterCount;
+
+    private MethodHandleInvoker(MethodHandle handle, int parameterCount) {
+        this.handle = handle;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * Creates a {@link MethodHandleInvoker} for the given {@code executable}, or returns {@code null} when no {@link
+     * MethodHandle} can be created for it. The given {@code executable} is expected to be made accessible already.
+     *
+     * @param executable the {@link Method} or {@link Constructor} to create an invoker for
+     * @return a {@link MethodHandleInvoker} for the given {@code executable}, or {@code null} if none can be created
+     */
+    static MethodHandleInvoker forExecutable(Executable executable) {
+        try {
+            int parameterCount = executable.getParameterCount();
+            MethodHandle handle;
+            if (executable instanceof Method) {
+                handle = MethodHandles.lookup().unreflect((Method) executable);
+                if (Modifier.isStatic(executable.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+            } else if (executable instanceof Constructor) {
+                handle = MethodHandles.dropArguments(
+                        MethodHandles.lookup().unreflectConstructor((Constructor<?>) executable), 0, Object.class
+                );
+            } else {
+                return null;
+            }
+            handle = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+            if (parameterCount > MAX_SPECIALIZED_PARAMETER_COUNT) {
+                handle = handle.asSpreader(Object[].class, parameterCount);
+            }
+            return new MethodHandleInvoker(handle, parameterCount);
+        } catch (IllegalAccessException | RuntimeException e) {
+            logger.debug("Unable to create a MethodHandle for [{}]. Falling back to reflection.",
+                         executable.toGenericString(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Invokes the handler on the given {@code target}, with the parameter values resolved by the given {@code
+     * resolvers} from the given {@code message}. For constructors, the {@code target} is ignored.
+     *
+     * @param target    the object to invoke the handler on
+     * @param message   the message to resolve the parameter values from
+     * @param resolvers the resolvers of the handler's parameter values
+     * @return the result of the handler invocation
+     * @throws Throwable anything thrown by the handler
+     */
+    Object invoke(Object target, Message<?> message, ParameterResolver<?>[] resolvers) throws Throwable {
+        switch (parameterCount) {
+            case 0:
+                return (Object) handle.invokeExact(target);
+            case 1:
+                return (Object) handle.invokeExact(target,
+                                                   (Object) resolvers[0].resolveParameterValue(message));
+            case 2:
+                return (Object) handle.invokeExact(target,
+                                                   (Object) resolvers[0].resolveParameterValue(message),
+                                                   (Object) resolvers[1].resolveParameterValue(message));
+            case 3:
+                return (Object) handle.invokeExact(target,
+                                                   (Object) resolvers[0].resolveParameterValue(message),
+                                                   (Object) resolvers[1].resolveParameterValue(message),
+                                                   (Object) resolvers[2].resolveParameterValue(message));
+            case 4:
+                return (Object) handle.invokeExact(target,
+                                                   (Object) resolvers[0].resolveParameterValue(message),
+                                                   (Object) resolvers[1].resolveParameterValue(message),
+                                                   (Object) resolvers[2].resolveParameterValue(message),
+                                                   (Object) resolvers[3].resolveParameterValue(message));
+            default:
+                Object[] parameters = new Object[parameterCount];
+                for (int i = 0; i < parameterCount; i++) {
+                    parameters[i] = resolvers[i].resolveParameterValue(message);
+                }
+                return (Object) handle.invokeExact(target, parameters);
+        }
+    }
+}
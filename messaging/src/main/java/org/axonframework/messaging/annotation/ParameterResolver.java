@@ -53,4 +53,15 @@
     default Class<?> supportedPayloadType() {
         return Object.class;
     }
+
+    /**
+     * Indicates whether this resolver resolves the same value for every message and {@link #matches(Message) matches}
+     * every message. Handlers may use this to skip matching this resolver and to resolve its value only once, instead
+     * of for every message. Defaults to {@code false}, indicating the resolved value is derived from the message.
+     *
+     * @return {@code true} if this resolver resolves the same value for every message, {@code false} otherwise
+     */
+    default boolean isConstant() {
+        return false;
+    }
 }
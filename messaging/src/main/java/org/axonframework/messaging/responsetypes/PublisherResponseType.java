@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.responsetypes;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.axonframework.common.TypeReflectionUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Type;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.axonframework.common.ReflectionUtils.unwrapIfType;
+
+/**
+ * A {@link ResponseType} implementation that will match with query handlers which return a {@link Publisher}, a
+ * {@link Stream}, an {@link Iterable} or an array of the expected response type, as well as a single instance of it.
+ * If matching succeeds, the {@link ResponseType#convert(Object)} function will be called, which will wrap the query
+ * handler its response in a {@link Publisher} with generic type {@code R}. This allows the response to be streamed
+ * to the caller one element at a time, honoring the demand signaled by the subscriber.
+ * <p>
+ * Using this response type requires Project Reactor to be present on the classpath.
+ *
+ * @param <R> The response type which will be matched against and converted to
+ * @author agent
+ * @since 4.6
+ */
+public class PublisherResponseType<R> extends AbstractResponseType<Publisher<R>> {
+
+    /**
+     * Instantiate a {@link PublisherResponseType} with the given {@code expectedPublisherGenericType} as the type to be
+     * matched against and which the convert function will use as the generic for the {@link Publisher} return value.
+     *
+     * @param expectedPublisherGenericType the response type which is expected to be matched against and returned
+     */
+    @JsonCreator
+    @ConstructorProperties({"expectedResponseType"})
+    public PublisherResponseType(@JsonProperty("expectedResponseType") Class<R> expectedPublisherGenericType) {
+        super(expectedPublisherGenericType);
+    }
+
+    /**
+     * Match the query handler its response {@link Type} with this implementation its responseType {@code R}. Will
+     * return true if the response type is a {@link Publisher}, {@link Stream}, {@link Iterable}, array or generic
+     * array of the expected type, or if it is the expected type itself.
+     *
+     * @param responseType the response {@link Type} of the query handler which is matched against
+     * @return true if the query handler its response can be provided as a {@link Publisher} of the expected type
+     */
+    @Override
+    public boolean matches(Type responseType) {
+        Type unwrapped = unwrapIfType(responseType, Future.class);
+        return isPublisherOfExpectedType(unwrapped) ||
+                isIterableOfExpectedType(unwrapped) ||
+                isStreamOfExpectedType(unwrapped) ||
+                isGenericArrayOfExpectedType(unwrapped) ||
+                isArrayOfExpectedType(unwrapped) ||
+                isAssignableFrom(unwrapped) ||
+                isGenericAssignableFrom(unwrapped);
+    }
+
+    private boolean isPublisherOfExpectedType(Type responseType) {
+        Type publisherType = TypeReflectionUtils.getExactSuperType(responseType, Publisher.class);
+        return publisherType != null && isParameterizedTypeOfExpectedType(publisherType);
+    }
+
+    /**
+     * Converts the given {@code response} into a {@link Publisher} with generic type {@code R}. A {@code Publisher} is
+     * returned as is, whereas a {@link Stream}, {@link Iterable} or array is emitted element by element. Any other
+     * response is emitted as the sole element of the returned {@code Publisher}, and a {@code null} response results in
+     * an empty {@code Publisher}.
+     *
+     * @param response the {@link Object} to convert into a {@link Publisher} of generic type {@code R}
+     * @return a {@link Publisher} of generic type {@code R}, based on the given {@code response}
+     */
+    @SuppressWarnings("unchecked") // Suppress casts to R, since in proper use of this function it is allowed
+    @Override
+    public Publisher<R> convert(Object response) {
+        if (response == null) {
+            return Flux.empty();
+        } else if (response instanceof Publisher) {
+            return (Publisher<R>) response;
+        } else if (response instanceof Stream) {
+            return Flux.fromStream((Stream<R>) response);
+        } else if (response instanceof Iterable) {
+            return Flux.fromIterable((Iterable<R>) response);
+        } else if (response.getClass().isArray() && !response.getClass().getComponentType().isPrimitive()) {
+            return Flux.fromArray((R[]) response);
+        }
+        return Flux.just((R) response);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class responseMessagePayloadType() {
+        return Publisher.class;
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherResponseType{" + expectedResponseType + "}";
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.axonframework.messaging.responsetypes;
 
+import org.reactivestreams.Publisher;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -64,6 +66,21 @@ public static <R> ResponseType<List<R>> multipleInstancesOf(Class<R> type) {
         return new MultipleInstancesResponseType<>(type);
     }
 
+    /**
+     * Specify the desire to retrieve a {@link Publisher} of instances of type {@code R} when performing a query. The
+     * instances are provided one by one, as demanded by the subscriber of the {@code Publisher}.
+     * <p>
+     * Note that this {@code ResponseType} requires Project Reactor to be present on the classpath.
+     *
+     * @param type the {@code R} which is expected to be the response type
+     * @param <R>  the generic type of the instantiated {@link ResponseType}
+     * @return a {@link ResponseType} specifying the desire to retrieve a {@link Publisher} of instances of type {@code
+     * R}
+     */
+    public static <R> ResponseType<Publisher<R>> publisherOf(Class<R> type) {
+        return new PublisherResponseType<>(type);
+    }
+
     private ResponseTypes() {
         // Utility class
     }
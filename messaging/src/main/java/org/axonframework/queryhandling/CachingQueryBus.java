@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+import org.axonframework.common.caching.Cache;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Type;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * A {@link QueryBus} wrapper caching the responses of point-to-point queries, as dispatched through {@link
+ * #query(QueryMessage)}. Repeated queries are answered from the {@link Cache} without invoking the delegate {@code
+ * QueryBus}, and thus without invoking its interceptors, transactions or query handlers.
+ * <p>
+ * Dispatch interceptors registered on this bus are invoked on every query before the cache is consulted, so the
+ * cache key is resolved from the intercepted query. Interceptors registered on the delegate {@code QueryBus} directly,
+ * as well as all handler interceptors, are only invoked for queries which are not answered from the cache.
+ * <p>
+ * Only queries with a configured time-to-live are cached, either through a time-to-live for their {@link
+ * QueryMessage#getQueryName() query name} or through the default time-to-live. Exceptional responses are never cached.
+ * By default, queries are considered identical when their query name, payload, {@link ResponseType} and meta data are
+ * equal, so the payload is expected to implement {@link Object#equals(Object)} and {@link Object#hashCode()}. As a
+ * consequence, queries carrying different meta data, like security or correlation information, never share a cached
+ * response. Use {@link Builder#cacheKeyResolver(Function)} to define which parts of a query identify its response.
+ * Size bounds are defined by the given {@code Cache} implementation.
+ * <p>
+ * Cached responses can be invalidated when updates are emitted for matching queries. To that end, enable {@link
+ * Builder#invalidateOnUpdate(boolean)} and emit updates through the {@link QueryUpdateEmitter} returned by {@link
+ * #queryUpdateEmitter()} of this bus. All cached queries matching the filter of an emitted update are evicted, in the
+ * same {@link UnitOfWork} phase as the update itself is emitted in. Updates emitted through any other emitter, like
+ * the emitter of the delegate {@code QueryBus}, do not evict cached responses.
+ * <p>
+ * Streaming, scatter-gather and subscription queries are passed on to the delegate {@code QueryBus} after being
+ * intercepted by the dispatch interceptors of this bus.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class CachingQueryBus implements QueryBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final String INVALIDATION_TASKS_RESOURCE_KEY = "/invalidationTasks";
+
+    private final QueryBus delegate;
+    private final Cache cache;
+    private final Duration defaultTimeToLive;
+    private final Map<String, Duration> timeToLive;
+    private final Function<QueryMessage<?, ?>, Object> cacheKeyResolver;
+    private final Clock clock;
+    private final QueryUpdateEmitter queryUpdateEmitter;
+    private final Map<Object, QueryMessage<?, ?>> cachedQueries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final List<MessageDispatchInterceptor<? super QueryMessage<?, ?>>> dispatchInterceptors =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CachingQueryBus}.
+     * <p>
+     * No queries are cached unless a time-to-live is defined for them. The cache key resolver defaults to a key
+     * composed of the query name, payload, {@link ResponseType} and meta data, the {@link Clock} defaults to {@link
+     * GenericEventMessage#clock} and invalidation on updates is disabled by default. The delegate {@link QueryBus} and
+     * the {@link Cache} are <b>hard requirements</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link CachingQueryBus}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link CachingQueryBus} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the delegate {@link QueryBus} and the {@link Cache} are not {@code null}, and will throw an
+     * {@link AxonConfigurationException} if this is not the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CachingQueryBus} instance
+     */
+    protected CachingQueryBus(Builder builder) {
+        builder.validate();
+        this.delegate = builder.delegate;
+        this.cache = builder.cache;
+        this.defaultTimeToLive = builder.defaultTimeToLive;
+        this.timeToLive = new HashMap<>(builder.timeToLive);
+        this.cacheKeyResolver = builder.cacheKeyResolver;
+        this.clock = builder.clock;
+        if (builder.invalidateOnUpdate) {
+            this.queryUpdateEmitter = new InvalidatingQueryUpdateEmitter(delegate.queryUpdateEmitter());
+            this.cache.registerCacheEntryListener(new Cache.EntryListenerAdapter() {
+                @Override
+                public void onEntryExpired(Object key) {
+                    cachedQueries.remove(key);
+                }
+
+                @Override
+                public void onEntryRemoved(Object key) {
+                    cachedQueries.remove(key);
+                }
+            });
+        } else {
+            this.queryUpdateEmitter = delegate.queryUpdateEmitter();
+        }
+    }
+
+    @Override
+    public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R> query) {
+        QueryMessage<Q, R> interceptedQuery = intercept(query);
+        Duration queryTimeToLive = timeToLive.getOrDefault(interceptedQuery.getQueryName(), defaultTimeToLive);
+        if (queryTimeToLive == null) {
+            return delegate.query(interceptedQuery);
+        }
+        Object cacheKey = cacheKeyResolver.apply(interceptedQuery);
+        CachedResponse cachedResponse = cache.get(cacheKey);
+        if (cachedResponse != null) {
+            if (cachedResponse.isValidAt(clock.instant())) {
+                //noinspection unchecked
+                return CompletableFuture.completedFuture((QueryResponseMessage<R>) cachedResponse.response);
+            }
+            cache.remove(cacheKey);
+        }
+        long invalidationsAtDispatch = invalidations.get();
+        return delegate.query(interceptedQuery).thenApply(response -> {
+            if (!response.isExceptional() && invalidationsAtDispatch == invalidations.get()) {
+                store(cacheKey, interceptedQuery, response, queryTimeToLive);
+                if (invalidationsAtDispatch != invalidations.get()) {
+                    // an invalidation took place while storing, so the response may already be stale
+                    cache.remove(cacheKey);
+                }
+            }
+            return response;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Q, R, T extends QueryMessage<Q, R>> T intercept(T query) {
+        T intercepted = query;
+        for (MessageDispatchInterceptor<? super QueryMessage<?, ?>> interceptor : dispatchInterceptors) {
+            intercepted = (T) interceptor.handle(intercepted);
+        }
+        return intercepted;
+    }
+
+    private void store(Object cacheKey, QueryMessage<?, ?> query, QueryResponseMessage<?> response, Duration ttl) {
+        if (queryUpdateEmitter instanceof InvalidatingQueryUpdateEmitter) {
+            cachedQueries.put(cacheKey, query);
+        }
+        cache.put(cacheKey, new CachedResponse(response, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Evicts all cached responses of queries matching the given {@code filter}.
+     * <p>
+     * Only queries cached while {@link Builder#invalidateOnUpdate(boolean) invalidation on updates} is enabled are
+     * taken into account.
+     *
+     * @param filter predicate on the cached query messages, selecting the responses to evict
+     */
+    public void invalidate(Predicate<? super QueryMessage<?, ?>> filter) {
+        invalidations.incrementAndGet();
+        cachedQueries.forEach((cacheKey, query) -> {
+            boolean matches;
+            try {
+                matches = !cache.containsKey(cacheKey) || filter.test(query);
+            } catch (RuntimeException e) {
+                logger.debug("Evicting query [{}] from the cache, as the invalidation filter failed on it.",
+                             query.getQueryName(), e);
+                matches = true;
+            }
+            if (matches && cachedQueries.remove(cacheKey, query)) {
+                cache.remove(cacheKey);
+            }
+        });
+    }
+
+    @Override
+    public <R> Registration subscribe(String queryName,
+                                      Type responseType,
+                                      MessageHandler<? super QueryMessage<?, R>> handler) {
+        return delegate.subscribe(queryName, responseType, handler);
+    }
+
+    @Override
+    public <Q, R> Publisher<QueryResponseMessage<R>> streamingQuery(QueryMessage<Q, Publisher<R>> query) {
+        return delegate.streamingQuery(intercept(query));
+    }
+
+    @Override
+    public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> query, long timeout, TimeUnit unit) {
+        return delegate.scatterGather(intercept(query), timeout, unit);
+    }
+
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query
+    ) {
+        return delegate.subscriptionQuery(intercept(query));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query, SubscriptionQueryBackpressure backpressure, int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(intercept(query), backpressure, updateBufferSize);
+    }
+
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query, int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(intercept(query), updateBufferSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@link Builder#invalidateOnUpdate(boolean) invalidation on updates} is enabled, the returned emitter evicts
+     * the cached responses of all queries matching the filter of an emitted update.
+     */
+    @Override
+    public QueryUpdateEmitter queryUpdateEmitter() {
+        return queryUpdateEmitter;
+    }
+
+    @Override
+    public Registration registerHandlerInterceptor(
+            MessageHandlerInterceptor<? super QueryMessage<?, ?>> handlerInterceptor) {
+        return delegate.registerHandlerInterceptor(handlerInterceptor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The interceptor is invoked by this bus before the cache is consulted, rather than by the delegate {@link
+     * QueryBus}, so the cache key of a query is resolved from the intercepted query.
+     */
+    @Override
+    public Registration registerDispatchInterceptor(
+            MessageDispatchInterceptor<? super QueryMessage<?, ?>> dispatchInterceptor) {
+        dispatchInterceptors.add(dispatchInterceptor);
+        return () -> dispatchInterceptors.remove(dispatchInterceptor);
+    }
+
+    private static final class CachedResponse implements Serializable {
+
+        private static final long serialVersionUID = -3907524862364871130L;
+
+        private final QueryResponseMessage<?> response;
+        private final Instant expiry;
+
+        private CachedResponse(QueryResponseMessage<?> response, Instant expiry) {
+            this.response = response;
+            this.expiry = expiry;
+        }
+
+        private boolean isValidAt(Instant instant) {
+            return instant.isBefore(expiry);
+        }
+    }
+
+    /**
+     * {@link QueryUpdateEmitter} evicting the cached responses of the queries matching the filter of an emitted
+     * update, before passing the update on to the delegate emitter.
+     */
+    private class InvalidatingQueryUpdateEmitter implements QueryUpdateEmitter {
+
+        private final QueryUpdateEmitter delegateEmitter;
+
+        private InvalidatingQueryUpdateEmitter(QueryUpdateEmitter delegateEmitter) {
+            this.delegateEmitter = delegateEmitter;
+        }
+
+        @Override
+        public <U> void emit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
+                             SubscriptionQueryUpdateMessage<U> update) {
+            runOnAfterCommitOrNow(() -> invalidate(query -> filter.test(asSubscriptionQuery(query))));
+            delegateEmitter.emit(filter, update);
+        }
+
+        @Override
+        public <U> void emit(String queryName, Object routingKey, SubscriptionQueryUpdateMessage<U> update) {
+            // the routing key of cached queries is unknown, hence all cached queries with the given name are evicted
+            runOnAfterCommitOrNow(() -> invalidate(query -> queryName.equals(query.getQueryName())));
+            delegateEmitter.emit(queryName, routingKey, update);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <U> SubscriptionQueryMessage<?, ?, U> asSubscriptionQuery(QueryMessage<?, ?> query) {
+            return new GenericSubscriptionQueryMessage<>(query,
+                                                         query.getQueryName(),
+                                                         query.getResponseType(),
+                                                         (ResponseType<U>) ResponseTypes.instanceOf(Object.class));
+        }
+
+        private void runOnAfterCommitOrNow(Runnable invalidationTask) {
+            if (CurrentUnitOfWork.isStarted() && UnitOfWork.Phase.STARTED.equals(CurrentUnitOfWork.get().phase())) {
+                UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
+                unitOfWork.getOrComputeResource(
+                        this.toString() + INVALIDATION_TASKS_RESOURCE_KEY,
+                        resourceKey -> {
+                            List<Runnable> invalidationTasks = new ArrayList<>();
+                            unitOfWork.afterCommit(uow -> invalidationTasks.forEach(Runnable::run));
+                            return invalidationTasks;
+                        }
+                ).add(invalidationTask);
+            } else {
+                invalidationTask.run();
+            }
+        }
+
+        @Override
+        public void complete(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
+            delegateEmitter.complete(filter);
+        }
+
+        @Override
+        public void completeExceptionally(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter, Throwable cause) {
+            delegateEmitter.completeExceptionally(filter, cause);
+        }
+
+        @Override
+        public boolean queryUpdateHandlerRegistered(SubscriptionQueryMessage<?, ?, ?> query) {
+            return delegateEmitter.queryUpdateHandlerRegistered(query);
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                      SubscriptionQueryBackpressure backpressure,
+                                                                      int updateBufferSize) {
+            return delegateEmitter.registerUpdateHandler(query, backpressure, updateBufferSize);
+        }
+
+        @Override
+        public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                      int updateBufferSize) {
+            return delegateEmitter.registerUpdateHandler(query, updateBufferSize);
+        }
+
+        @Override
+        public Set<SubscriptionQueryMessage<?, ?, ?>> activeSubscriptions() {
+            return delegateEmitter.activeSubscriptions();
+        }
+
+        @Override
+        public Registration registerDispatchInterceptor(
+                MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>> dispatchInterceptor) {
+            return delegateEmitter.registerDispatchInterceptor(dispatchInterceptor);
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link CachingQueryBus}.
+     * <p>
+     * No queries are cached unless a time-to-live is defined for them. The cache key resolver defaults to a key
+     * composed of the query name, payload, {@link ResponseType} and meta data, the {@link Clock} defaults to {@link
+     * GenericEventMessage#clock} and invalidation on updates is disabled by default. The delegate {@link QueryBus} and
+     * the {@link Cache} are <b>hard requirements</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private QueryBus delegate;
+        private Cache cache;
+        private Duration defaultTimeToLive;
+        private final Map<String, Duration> timeToLive = new HashMap<>();
+        private Function<QueryMessage<?, ?>, Object> cacheKeyResolver = query -> new QueryCacheKey(query, true);
+        private Clock clock = GenericEventMessage.clock;
+        private boolean invalidateOnUpdate = false;
+
+        /**
+         * Sets the {@link QueryBus} to dispatch queries on which can not be answered from the cache.
+         *
+         * @param delegate the {@link QueryBus} to dispatch queries on which can not be answered from the cache
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder delegate(QueryBus delegate) {
+            assertNonNull(delegate, "Delegate QueryBus may not be null");
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Cache} to store query responses in. Any size bounds should be configured on the given
+         * {@code cache}.
+         *
+         * @param cache the {@link Cache} to store query responses in
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder cache(Cache cache) {
+            assertNonNull(cache, "Cache may not be null");
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of the responses of queries for which no query name specific time-to-live is defined
+         * through {@link #timeToLive(String, Duration)}. When not set, only queries with a query name specific
+         * time-to-live are cached.
+         *
+         * @param defaultTimeToLive the time-to-live of cached responses for queries without a specific time-to-live
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder defaultTimeToLive(Duration defaultTimeToLive) {
+            assertPositiveDuration(defaultTimeToLive);
+            this.defaultTimeToLive = defaultTimeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of the responses of queries with the given {@code queryName}.
+         *
+         * @param queryName  the name of the queries to cache the responses of
+         * @param timeToLive the time-to-live of cached responses for queries with the given {@code queryName}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder timeToLive(String queryName, Duration timeToLive) {
+            assertNonNull(queryName, "The query name may not be null");
+            assertPositiveDuration(timeToLive);
+            this.timeToLive.put(queryName, timeToLive);
+            return this;
+        }
+
+        private static void assertPositiveDuration(Duration duration) {
+            assertThat(duration,
+                       d -> d != null && !d.isNegative() && !d.isZero(),
+                       "The time-to-live should be a positive duration");
+        }
+
+        /**
+         * Sets the function resolving the key to cache the response of a query under. Queries resolving to the same
+         * key are considered identical, and thus share a cached response. The function is given the query as
+         * intercepted by the dispatch interceptors of the {@link CachingQueryBus}. Defaults to a key composed of the
+         * query name, payload, {@link ResponseType} and meta data.
+         * <p>
+         * A custom resolver ignoring (part of) the meta data should only do so when that meta data does not influence
+         * the response, as a cached response is otherwise handed to queries it was not meant for.
+         *
+         * @param cacheKeyResolver the function resolving the key to cache the response of a query under
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder cacheKeyResolver(Function<QueryMessage<?, ?>, Object> cacheKeyResolver) {
+            assertNonNull(cacheKeyResolver, "The cache key resolver may not be null");
+            this.cacheKeyResolver = cacheKeyResolver;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Clock} used to determine whether cached responses have expired. Defaults to {@link
+         * GenericEventMessage#clock}.
+         *
+         * @param clock the {@link Clock} used to determine whether cached responses have expired
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder clock(Clock clock) {
+            assertNonNull(clock, "Clock may not be null");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets whether updates emitted through the {@link CachingQueryBus#queryUpdateEmitter()} evict the cached
+         * responses of the queries matching the filter of the update. Defaults to {@code false}.
+         * <p>
+         * Only updates emitted through the {@link QueryUpdateEmitter} returned by {@link
+         * CachingQueryBus#queryUpdateEmitter()} evict cached responses. Components emitting updates should thus be
+         * given that emitter, rather than the emitter of the delegate {@link QueryBus}.
+         *
+         * @param invalidateOnUpdate whether emitted updates evict the cached responses of matching queries
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder invalidateOnUpdate(boolean invalidateOnUpdate) {
+            this.invalidateOnUpdate = invalidateOnUpdate;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CachingQueryBus} as specified through this Builder.
+         *
+         * @return a {@link CachingQueryBus} as specified through this Builder
+         */
+        public CachingQueryBus build() {
+            return new CachingQueryBus(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(delegate, "The delegate QueryBus is a hard requirement and should be provided");
+            assertNonNull(cache, "The Cache is a hard requirement and should be provided");
+        }
+    }
+}
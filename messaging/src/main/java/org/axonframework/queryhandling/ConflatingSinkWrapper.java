@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link SinkWrapper} conflating the values passed to it before handing them to a delegate {@link SinkWrapper}.
+ * Values are held back for the duration of the conflation window, starting at the first value received after the
+ * previous flush. Within a window, only the latest value per conflation key is retained. At the end of the window, the
+ * retained values are passed to the delegate in the order their latest value arrived.
+ * <p>
+ * Completing or failing this wrapper flushes the pending values first, so no retained value is lost.
+ *
+ * @param <T> the value type
+ * @author agent
+ * @since 4.6
+ */
+class ConflatingSinkWrapper<T> implements SinkWrapper<T> {
+
+    private final SinkWrapper<T> delegate;
+    private final long windowMillis;
+    private final Function<? super T, ?> conflationKey;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<Throwable> flushFailureHandler;
+
+    private final Map<Object, T> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+    private boolean terminated;
+
+    /**
+     * Initializes this wrapper with the given {@code delegate} sink.
+     *
+     * @param delegate            the sink to pass the conflated values to
+     * @param windowMillis        the duration in milliseconds during which values are conflated
+     * @param conflationKey       the function resolving the key of a value, values with equal keys replace each other
+     *                            within a window
+     * @param scheduler           the scheduler used to flush the pending values at the end of a window
+     * @param flushFailureHandler the handler invoked when passing the pending values to the {@code delegate} fails
+     *                            outside of the thread providing the values
+     */
+    ConflatingSinkWrapper(SinkWrapper<T> delegate,
+                          long windowMillis,
+                          Function<? super T, ?> conflationKey,
+                          ScheduledExecutorService scheduler,
+                          Consumer<Throwable> flushFailureHandler) {
+        this.delegate = delegate;
+        this.windowMillis = windowMillis;
+        this.conflationKey = conflationKey;
+        this.scheduler = scheduler;
+        this.flushFailureHandler = flushFailureHandler;
+    }
+
+    @Override
+    public void next(T value) {
+        Object key = conflationKey.apply(value);
+        synchronized (this) {
+            if (terminated) {
+                // let the delegate decide how to deal with values after termination
+                delegate.next(value);
+                return;
+            }
+            // removing first moves the key to the end of the iteration order
+            pending.remove(key);
+            pending.put(key, value);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush();
+            }
+        }
+    }
+
+    private void scheduleFlush() {
+        try {
+            scheduler.schedule(this::scheduledFlush, windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            flushFailureHandler.accept(e);
+        }
+    }
+
+    private synchronized void flush() {
+        flushScheduled = false;
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<T> values = new ArrayList<>(pending.values());
+        pending.clear();
+        values.forEach(delegate::next);
+    }
+
+    @Override
+    public synchronized void complete() {
+        terminated = true;
+        flush();
+        delegate.complete();
+    }
+
+    @Override
+    public synchronized void error(Throwable t) {
+        terminated = true;
+        try {
+            flush();
+        } finally {
+            delegate.error(t);
+        }
+    }
+}
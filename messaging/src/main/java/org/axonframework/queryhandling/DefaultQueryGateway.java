@@ -21,6 +21,9 @@
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.MessageDispatchInterceptor;
 import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Objects;
@@ -93,6 +96,15 @@ public <R, Q> CompletableFuture<R> query(String queryName, Q query, ResponseType
         return result;
     }
 
+    @Override
+    public <R, Q> Publisher<R> streamingQuery(String queryName, Q query, Class<R> responseType) {
+        return Mono.fromSupplier(() -> new GenericQueryMessage<>(
+                           asMessage(query), queryName, ResponseTypes.publisherOf(responseType)
+                   ))
+                   .flatMapMany(queryMessage -> queryBus.streamingQuery(processInterceptors(queryMessage)))
+                   .map(Message::getPayload);
+    }
+
     @Override
     public <R, Q> Stream<R> scatterGather(String queryName,
                                           Q query,
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.reactivestreams.Publisher;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+
+/**
+ * A {@link QueryBus} wrapper memoizing the responses of point-to-point queries, as dispatched through {@link
+ * #query(QueryMessage)}, for the duration of the active {@link UnitOfWork}. Identical queries dispatched repeatedly
+ * while handling a single command or event are only dispatched on the delegate {@code QueryBus} once, thus invoking
+ * the interceptors, transactions and query handlers only once.
+ * <p>
+ * Memoized responses are stored as a resource of the {@link UnitOfWork#root() root} unit of work, and are thus
+ * discarded together with it. Queries dispatched outside of a unit of work are never memoized. Neither are exceptional
+ * responses, so a failed query is dispatched again when repeated. By default, queries are considered identical when
+ * their query name, payload and {@link ResponseType} are equal. Use {@link Builder#memoizationKeyResolver(Function)}
+ * if meta data influences the response.
+ * <p>
+ * Streaming, scatter-gather and subscription queries are passed on to the delegate {@code QueryBus} as is.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class MemoizingQueryBus implements QueryBus {
+
+    private static final String MEMOIZED_RESPONSES_RESOURCE_KEY = "/memoizedQueryResponses";
+
+    private final QueryBus delegate;
+    private final Function<QueryMessage<?, ?>, Object> memoizationKeyResolver;
+    private final Predicate<QueryMessage<?, ?>> memoizationFilter;
+
+    /**
+     * Instantiate a Builder to be able to create a {@link MemoizingQueryBus}.
+     * <p>
+     * The memoization key resolver defaults to a key composed of the query name, payload and {@link ResponseType}, and
+     * the responses of all point-to-point queries are memoized by default. The delegate {@link QueryBus} is a <b>hard
+     * requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link MemoizingQueryBus}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link MemoizingQueryBus} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the delegate {@link QueryBus} is not {@code null}, and will throw an {@link
+     * AxonConfigurationException} if this is not the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link MemoizingQueryBus} instance
+     */
+    protected MemoizingQueryBus(Builder builder) {
+        builder.validate();
+        this.delegate = builder.delegate;
+        this.memoizationKeyResolver = builder.memoizationKeyResolver;
+        this.memoizationFilter = builder.memoizationFilter;
+    }
+
+    @Override
+    public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R> query) {
+        if (!CurrentUnitOfWork.isStarted()
+                || query instanceof SubscriptionQueryMessage
+                || !memoizationFilter.test(query)) {
+            return delegate.query(query);
+        }
+        ConcurrentMap<Object, CompletableFuture<? extends QueryResponseMessage<?>>> memoizedResponses =
+                CurrentUnitOfWork.get().root().getOrComputeResource(
+                        this.toString() + MEMOIZED_RESPONSES_RESOURCE_KEY, key -> new ConcurrentHashMap<>()
+                );
+        Object memoizationKey = memoizationKeyResolver.apply(query);
+        CompletableFuture<QueryResponseMessage<?>> response = new CompletableFuture<>();
+        CompletableFuture<? extends QueryResponseMessage<?>> memoizedResponse =
+                memoizedResponses.computeIfAbsent(memoizationKey, key -> response);
+        if (memoizedResponse == response) {
+            dispatch(query, memoizationKey, response, memoizedResponses);
+        }
+        // Hand each caller its own dependent stage, so cancelling or completing it does not affect other callers
+        //noinspection unchecked
+        return memoizedResponse.thenApply(result -> (QueryResponseMessage<R>) result);
+    }
+
+    private void dispatch(
+            QueryMessage<?, ?> query,
+            Object memoizationKey,
+            CompletableFuture<QueryResponseMessage<?>> response,
+            ConcurrentMap<Object, CompletableFuture<? extends QueryResponseMessage<?>>> memoizedResponses
+    ) {
+        try {
+            delegate.query(query).whenComplete((result, exception) -> {
+                if (exception != null || result.isExceptional()) {
+                    memoizedResponses.remove(memoizationKey, response);
+                }
+                if (exception != null) {
+                    response.completeExceptionally(exception);
+                } else {
+                    response.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            memoizedResponses.remove(memoizationKey, response);
+            response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <R> Registration subscribe(String queryName,
+                                      Type responseType,
+                                      MessageHandler<? super QueryMessage<?, R>> handler) {
+        return delegate.subscribe(queryName, responseType, handler);
+    }
+
+    @Override
+    public <Q, R> Publisher<QueryResponseMessage<R>> streamingQuery(QueryMessage<Q, Publisher<R>> query) {
+        return delegate.streamingQuery(query);
+    }
+
+    @Override
+    public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> query, long timeout, TimeUnit unit) {
+        return delegate.scatterGather(query, timeout, unit);
+    }
+
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query
+    ) {
+        return delegate.subscriptionQuery(query);
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query, SubscriptionQueryBackpressure backpressure, int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(query, backpressure, updateBufferSize);
+    }
+
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query, int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(query, updateBufferSize);
+    }
+
+    @Override
+    public QueryUpdateEmitter queryUpdateEmitter() {
+        return delegate.queryUpdateEmitter();
+    }
+
+    @Override
+    public Registration registerHandlerInterceptor(
+            MessageHandlerInterceptor<? super QueryMessage<?, ?>> handlerInterceptor) {
+        return delegate.registerHandlerInterceptor(handlerInterceptor);
+    }
+
+    @Override
+    public Registration registerDispatchInterceptor(
+            MessageDispatchInterceptor<? super QueryMessage<?, ?>> dispatchInterceptor) {
+        return delegate.registerDispatchInterceptor(dispatchInterceptor);
+    }
+
+    /**
+     * Builder class to instantiate a {@link MemoizingQueryBus}.
+     * <p>
+     * The memoization key resolver defaults to a key composed of the query name, payload and {@link ResponseType}, and
+     * the responses of all point-to-point queries are memoized by default. The delegate {@link QueryBus} is a <b>hard
+     * requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private QueryBus delegate;
+        private Function<QueryMessage<?, ?>, Object> memoizationKeyResolver = QueryCacheKey::new;
+        private Predicate<QueryMessage<?, ?>> memoizationFilter = query -> true;
+
+        /**
+         * Sets the {@link QueryBus} to dispatch queries on which have not been memoized yet.
+         *
+         * @param delegate the {@link QueryBus} to dispatch queries on which have not been memoized yet
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder delegate(QueryBus delegate) {
+            assertNonNull(delegate, "Delegate QueryBus may not be null");
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the function resolving the key to memoize the response of a query under. Queries resolving to the same
+         * key are considered identical. Defaults to a key composed of the query name, payload and {@link
+         * ResponseType}.
+         *
+         * @param memoizationKeyResolver the function resolving the key to memoize the response of a query under
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder memoizationKeyResolver(Function<QueryMessage<?, ?>, Object> memoizationKeyResolver) {
+            assertNonNull(memoizationKeyResolver, "The memoization key resolver may not be null");
+            this.memoizationKeyResolver = memoizationKeyResolver;
+            return this;
+        }
+
+        /**
+         * Sets the filter selecting the queries to memoize the responses of. Queries not matching the filter are
+         * always dispatched on the delegate {@link QueryBus}. Defaults to memoizing all point-to-point queries.
+         *
+         * @param memoizationFilter the filter selecting the queries to memoize the responses of
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder memoizationFilter(Predicate<QueryMessage<?, ?>> memoizationFilter) {
+            assertNonNull(memoizationFilter, "The memoization filter may not be null");
+            this.memoizationFilter = memoizationFilter;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link MemoizingQueryBus} as specified through this Builder.
+         *
+         * @return a {@link MemoizingQueryBus} as specified through this Builder
+         */
+        public MemoizingQueryBus build() {
+            return new MemoizingQueryBus(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(delegate, "The delegate QueryBus is a hard requirement and should be provided");
+        }
+    }
+}
@@ -19,16 +19,21 @@
 import org.axonframework.messaging.MessageDispatchInterceptorSupport;
 import org.axonframework.messaging.MessageHandler;
 import org.axonframework.messaging.MessageHandlerInterceptorSupport;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.concurrent.Queues;
 
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import static java.util.Collections.emptyList;
+
 /**
  * The mechanism that dispatches Query objects to their appropriate QueryHandlers. QueryHandlers can subscribe and
  * un-subscribe to specific queries (identified by their {@link QueryMessage#getQueryName()} and {@link
@@ -71,6 +76,42 @@ public interface QueryBus extends MessageHandlerInterceptorSupport<QueryMessage<
      */
     <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R> query);
 
+    /**
+     * Dispatch the given {@code query} to a single QueryHandler subscribed to the given {@code query}'s queryName and
+     * responseType, providing the results as a {@link Publisher} of response messages. Every response message
+     * contains a single result. Nothing is dispatched until the returned {@code Publisher} is subscribed to.
+     * <p>
+     * The default implementation dispatches the query through {@link #query(QueryMessage)}, expecting {@link
+     * ResponseTypes#multipleInstancesOf(Class) multiple instances} of the expected response type, and emits the
+     * elements of the resulting list one by one. Hence, the entire result is materialized by the handler.
+     * Implementations capable of delivering results incrementally, honoring the demand signaled by the subscriber,
+     * should override this method.
+     * <p>
+     * When no handlers are available that can answer the given {@code query}, the returned {@code Publisher} will
+     * complete with a {@link NoHandlerForQueryException}.
+     *
+     * @param query the query, typically expecting a {@link ResponseTypes#publisherOf(Class) Publisher} of results
+     * @param <Q>   the payload type of the query
+     * @param <R>   the type of the individual results of the query
+     * @return a {@link Publisher} of response messages, each containing a single result
+     */
+    default <Q, R> Publisher<QueryResponseMessage<R>> streamingQuery(QueryMessage<Q, Publisher<R>> query) {
+        @SuppressWarnings("unchecked")
+        Class<R> resultType = (Class<R>) query.getResponseType().getExpectedResponseType();
+        QueryMessage<Q, List<R>> listQuery =
+                new GenericQueryMessage<>(query, query.getQueryName(), ResponseTypes.multipleInstancesOf(resultType));
+        return Mono.defer(() -> Mono.fromFuture(query(listQuery)))
+                   .flatMapMany(response -> {
+                       if (response.isExceptional()) {
+                           return Flux.error(response.exceptionResult());
+                       }
+                       List<R> results = response.getPayload() == null ? emptyList() : response.getPayload();
+                       return Flux.fromIterable(results).map(
+                               result -> new GenericQueryResponseMessage<>(resultType, result, response.getMetaData())
+                       );
+                   });
+    }
+
     /**
      * Dispatch the given {@code query} to all QueryHandlers subscribed to the given {@code query}'s
      * queryName/responseType. Returns a stream of results which blocks until all handlers have processed the request or
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.responsetypes.ResponseType;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A key identifying a query by its query name, payload and {@link ResponseType}, and optionally its {@link MetaData}.
+ * Used as the default key for the responses cached or memoized by the {@link QueryBus} decorators in this package.
+ *
+ * @author agent
+ * @since 4.6
+ */
+final class QueryCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 5184921402785102375L;
+
+    private final String queryName;
+    private final Object payload;
+    private final ResponseType<?> responseType;
+    private final MetaData metaData;
+
+    /**
+     * Constructs a key for the given {@code query}, ignoring its {@link MetaData}.
+     *
+     * @param query the query to construct a key for
+     */
+    QueryCacheKey(QueryMessage<?, ?> query) {
+        this(query, false);
+    }
+
+    /**
+     * Constructs a key for the given {@code query}, which includes the {@link MetaData} of the {@code query} if
+     * {@code includeMetaData} is {@code true}.
+     *
+     * @param query           the query to construct a key for
+     * @param includeMetaData whether queries with different meta data should result in different keys
+     */
+    QueryCacheKey(QueryMessage<?, ?> query, boolean includeMetaData) {
+        this.queryName = query.getQueryName();
+        this.payload = query.getPayload();
+        this.responseType = query.getResponseType();
+        this.metaData = includeMetaData ? query.getMetaData() : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryCacheKey that = (QueryCacheKey) o;
+        return Objects.equals(queryName, that.queryName)
+                && Objects.equals(payload, that.payload)
+                && Objects.equals(responseType, that.responseType)
+                && Objects.equals(metaData, that.metaData);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queryName, payload, responseType, metaData);
+    }
+}
@@ -18,6 +18,9 @@
 import org.axonframework.messaging.MessageDispatchInterceptorSupport;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.util.concurrent.Queues;
 
 import java.util.concurrent.CompletableFuture;
@@ -102,6 +105,46 @@ default <R, Q> CompletableFuture<R> query(Q query, ResponseType<R> responseType)
      */
     <R, Q> CompletableFuture<R> query(String queryName, Q query, ResponseType<R> responseType);
 
+    /**
+     * Sends given {@code query} over the {@link org.axonframework.queryhandling.QueryBus}, expecting a stream of
+     * results of the given {@code responseType} from a single source. The query name will be derived from the provided
+     * {@code query}. The query is only sent once the returned {@link Publisher} is subscribed to.
+     *
+     * @param query        The {@code query} to be sent
+     * @param responseType A {@link java.lang.Class} describing the type of the individual results
+     * @param <R>          The type of the individual results
+     * @param <Q>          The query class
+     * @return A {@link Publisher} emitting the results of the query, as demanded by its subscriber
+     * @see QueryBus#streamingQuery(QueryMessage)
+     */
+    default <R, Q> Publisher<R> streamingQuery(Q query, Class<R> responseType) {
+        return streamingQuery(queryName(query), query, responseType);
+    }
+
+    /**
+     * Sends given {@code query} over the {@link org.axonframework.queryhandling.QueryBus}, expecting a stream of
+     * results of the given {@code responseType} from a single source. The query is only sent once the returned {@link
+     * Publisher} is subscribed to.
+     * <p>
+     * Defaults to sending a regular query expecting {@link ResponseTypes#multipleInstancesOf(Class) multiple instances}
+     * of the {@code responseType}, emitting the results once the query completes. Implementations are encouraged to
+     * override this method to dispatch through {@link QueryBus#streamingQuery(QueryMessage)} instead.
+     *
+     * @param queryName    A {@link java.lang.String} describing the query to be executed
+     * @param query        The {@code query} to be sent
+     * @param responseType A {@link java.lang.Class} describing the type of the individual results
+     * @param <R>          The type of the individual results
+     * @param <Q>          The query class
+     * @return A {@link Publisher} emitting the results of the query, as demanded by its subscriber
+     * @see QueryBus#streamingQuery(QueryMessage)
+     */
+    default <R, Q> Publisher<R> streamingQuery(String queryName, Q query, Class<R> responseType) {
+        return Mono.defer(() -> Mono.fromFuture(
+                           query(queryName, query, ResponseTypes.multipleInstancesOf(responseType))
+                   ))
+                   .flatMapMany(Flux::fromIterable);
+    }
+
     /**
      * Sends given {@code query} over the {@link org.axonframework.queryhandling.QueryBus}, expecting a response in the
      * form of {@code responseType} from several sources. The stream is completed when a {@code timeout} occurs or when
@@ -99,6 +99,44 @@ default <Q, U> void emit(Class<Q> queryType, Predicate<? super Q> filter, U upda
         }
     }
 
+    /**
+     * Emits given incremental update to subscription queries with the given {@code queryName} and {@code routingKey}.
+     * The routing key of a subscription query is an attribute derived from its payload, like the identifier of the
+     * entity it queries for. By default, the payload itself is used as routing key.
+     * <p>
+     * Implementations may keep an index of the subscription queries by query name and routing key, so that emitting
+     * an update does not require evaluating all active subscription queries. The default implementation falls back to
+     * {@link #emit(Predicate, SubscriptionQueryUpdateMessage)}, matching the payload of subscription queries with the
+     * given {@code routingKey}.
+     *
+     * @param queryName  the name of the subscription queries to emit the update to
+     * @param routingKey the routing key of the subscription queries to emit the update to
+     * @param update     incremental update message
+     * @param <U>        the type of the update
+     */
+    default <U> void emit(String queryName, Object routingKey, SubscriptionQueryUpdateMessage<U> update) {
+        Predicate<SubscriptionQueryMessage<?, ?, U>> sqmFilter =
+                m -> queryName.equals(m.getQueryName()) && routingKey.equals(m.getPayload());
+        emit(sqmFilter, update);
+    }
+
+    /**
+     * Emits given incremental update to subscription queries with the given {@code queryName} and {@code routingKey}.
+     * If an {@code update} is {@code null}, emit will be skipped. In order to send nullable updates, use {@link
+     * #emit(String, Object, SubscriptionQueryUpdateMessage)}.
+     *
+     * @param queryName  the name of the subscription queries to emit the update to
+     * @param routingKey the routing key of the subscription queries to emit the update to
+     * @param update     incremental update
+     * @param <U>        the type of the update
+     * @see #emit(String, Object, SubscriptionQueryUpdateMessage)
+     */
+    default <U> void emit(String queryName, Object routingKey, U update) {
+        if (update != null) {
+            emit(queryName, routingKey, GenericSubscriptionQueryUpdateMessage.asUpdateMessage(update));
+        }
+    }
+
     /**
      * Completes subscription queries matching given filter.
      *
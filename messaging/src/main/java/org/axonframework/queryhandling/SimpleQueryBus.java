@@ -26,12 +26,16 @@
 import org.axonframework.messaging.ResultMessage;
 import org.axonframework.messaging.interceptors.TransactionManagingInterceptor;
 import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
@@ -40,15 +44,26 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -79,6 +94,7 @@ public class SimpleQueryBus implements QueryBus {
     private final List<MessageDispatchInterceptor<? super QueryMessage<?, ?>>> dispatchInterceptors = new CopyOnWriteArrayList<>();
 
     private final QueryUpdateEmitter queryUpdateEmitter;
+    private final Executor scatterGatherExecutor;
 
     /**
      * Instantiate a {@link SimpleQueryBus} based on the fields contained in the {@link Builder}.
@@ -93,6 +109,7 @@ protected SimpleQueryBus(Builder builder) {
             registerHandlerInterceptor(new TransactionManagingInterceptor<>(builder.transactionManager));
         }
         this.queryUpdateEmitter = builder.queryUpdateEmitter;
+        this.scatterGatherExecutor = builder.scatterGatherExecutor;
     }
 
     /**
@@ -100,7 +117,8 @@ protected SimpleQueryBus(Builder builder) {
      * <p>
      * The {@link MessageMonitor} is defaulted to {@link NoOpMessageMonitor}, {@link TransactionManager} to {@link
      * NoTransactionManager}, {@link QueryInvocationErrorHandler} to {@link LoggingQueryInvocationErrorHandler}, and
-     * {@link QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter}.
+     * {@link QueryUpdateEmitter} to {@link SimpleQueryUpdateEmitter}. By default, no scatter-gather {@link Executor}
+     * is set, causing the handlers of a scatter-gather query to be invoked one after the other.
      *
      * @return a Builder to be able to create a {@link SimpleQueryBus}
      */
@@ -180,6 +198,77 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation invokes the handler as soon as the returned {@link Publisher} is subscribed to. When the
+     * handler returns a {@link Publisher} or {@link Stream}, its results are only retrieved as demanded by the
+     * subscriber, so large results do not have to be materialized at once.
+     * <p>
+     * The {@link UnitOfWork} of the handler, and thus any transaction, remains open until the results have been
+     * retrieved. It is committed once the results complete or the subscription is cancelled, and rolled back when
+     * retrieving the results fails. In between, the {@code UnitOfWork} is not bound to any thread, and it is committed
+     * or rolled back on the thread signalling the termination of the results.
+     */
+    @Override
+    public <Q, R> Publisher<QueryResponseMessage<R>> streamingQuery(QueryMessage<Q, Publisher<R>> query) {
+        return Flux.usingWhen(Mono.fromCallable(() -> invokeStreamingQueryHandler(query)),
+                              StreamingQueryInvocation::results,
+                              StreamingQueryInvocation::commit,
+                              StreamingQueryInvocation::rollback,
+                              StreamingQueryInvocation::commit);
+    }
+
+    private <Q, R> StreamingQueryInvocation<R> invokeStreamingQueryHandler(QueryMessage<Q, Publisher<R>> query)
+            throws Exception {
+        MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(query);
+        QueryMessage<Q, Publisher<R>> interceptedQuery = intercept(query);
+        List<MessageHandler<? super QueryMessage<?, ?>>> handlers = getHandlersForMessage(interceptedQuery);
+        for (MessageHandler<? super QueryMessage<?, ?>> handler : handlers) {
+            DefaultUnitOfWork<QueryMessage<Q, Publisher<R>>> uow = DefaultUnitOfWork.startAndGet(interceptedQuery);
+            Object queryResponse;
+            try {
+                queryResponse = new DefaultInterceptorChain<>(uow, handlerInterceptors, handler).proceed();
+            } catch (NoHandlerForQueryException e) {
+                uow.rollback(e);
+                continue;
+            } catch (Exception e) {
+                uow.rollback(e);
+                monitorCallback.reportFailure(e);
+                throw e;
+            }
+            // the unit of work is resumed on the thread terminating the results, to be committed or rolled back
+            CurrentUnitOfWork.clear(uow);
+            return new StreamingQueryInvocation<>(uow,
+                                                  monitorCallback,
+                                                  streamingResults(interceptedQuery.getResponseType(), queryResponse));
+        }
+        NoHandlerForQueryException noHandler = new NoHandlerForQueryException(format(
+                handlers.isEmpty()
+                        ? "No handler found for [%s] with response type [%s]"
+                        : "No suitable handler was found for [%s] with response type [%s]",
+                interceptedQuery.getQueryName(),
+                interceptedQuery.getResponseType()
+        ));
+        monitorCallback.reportFailure(noHandler);
+        throw noHandler;
+    }
+
+    private <R> Flux<QueryResponseMessage<R>> streamingResults(ResponseType<Publisher<R>> responseType,
+                                                               Object queryResponse) {
+        @SuppressWarnings("unchecked")
+        Class<R> resultType = (Class<R>) responseType.getExpectedResponseType();
+        Flux<R> results;
+        if (queryResponse instanceof CompletableFuture) {
+            results = Mono.fromFuture((CompletableFuture<?>) queryResponse).flatMapMany(responseType::convert);
+        } else if (queryResponse instanceof Future) {
+            results = Mono.fromCallable(((Future<?>) queryResponse)::get).flatMapMany(responseType::convert);
+        } else {
+            results = Flux.from(responseType.convert(queryResponse));
+        }
+        return results.map(result -> new GenericQueryResponseMessage<>(resultType, result));
+    }
+
     @Override
     public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> query, long timeout, TimeUnit unit) {
         MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(query);
@@ -191,6 +280,9 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> q
         }
 
         long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+        if (scatterGatherExecutor != null) {
+            return parallelScatterGather(interceptedQuery, handlers, monitorCallback, deadline);
+        }
         return handlers.stream()
                        .map(handler -> {
                            long leftTimeout = getRemainingOfDeadline(deadline);
@@ -214,6 +306,82 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> q
                        }).filter(Objects::nonNull);
     }
 
+    /**
+     * Invokes all {@code handlers} on the {@link #scatterGatherExecutor}, returning a {@link Stream} providing the
+     * responses in the order in which the handlers complete. The stream ends once all handlers have completed or when
+     * the {@code deadline} has passed, whichever comes first. Responses of handlers completing after the deadline are
+     * discarded.
+     */
+    private <Q, R> Stream<QueryResponseMessage<R>> parallelScatterGather(
+            QueryMessage<Q, R> interceptedQuery,
+            List<MessageHandler<? super QueryMessage<?, ?>>> handlers,
+            MessageMonitor.MonitorCallback monitorCallback,
+            long deadline
+    ) {
+        BlockingQueue<Optional<QueryResponseMessage<R>>> responses = new LinkedBlockingQueue<>();
+        for (MessageHandler<? super QueryMessage<?, ?>> handler : handlers) {
+            BiConsumer<QueryResponseMessage<R>, Throwable> responseHandler = (response, error) -> {
+                try {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        monitorCallback.reportFailure(cause);
+                        errorHandler.onError(cause, interceptedQuery, handler);
+                    } else {
+                        monitorCallback.reportSuccess();
+                    }
+                } finally {
+                    responses.add(Optional.ofNullable(response));
+                }
+            };
+            try {
+                scatterGatherExecutor.execute(() -> {
+                    ResultMessage<CompletableFuture<QueryResponseMessage<R>>> resultMessage =
+                            interceptAndInvoke(DefaultUnitOfWork.startAndGet(interceptedQuery), handler);
+                    if (resultMessage.isExceptional()) {
+                        responseHandler.accept(null, resultMessage.exceptionResult());
+                    } else {
+                        resultMessage.getPayload().whenComplete(responseHandler);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                responseHandler.accept(null, e);
+            }
+        }
+
+        Spliterator<QueryResponseMessage<R>> spliterator = new Spliterators.AbstractSpliterator<QueryResponseMessage<R>>(
+                handlers.size(), Spliterator.NONNULL
+        ) {
+            private int pending = handlers.size();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super QueryResponseMessage<R>> action) {
+                try {
+                    while (pending > 0) {
+                        Optional<QueryResponseMessage<R>> response =
+                                responses.poll(getRemainingOfDeadline(deadline), TimeUnit.MILLISECONDS);
+                        if (response == null) {
+                            logger.debug("Scatter-gather query [{}] timed out awaiting {} handler(s).",
+                                         interceptedQuery.getQueryName(), pending);
+                            pending = 0;
+                            return false;
+                        }
+                        pending--;
+                        if (response.isPresent()) {
+                            action.accept(response.get());
+                            return true;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    pending = 0;
+                }
+                return false;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -376,6 +544,53 @@ public Registration registerDispatchInterceptor(
                             .collect(Collectors.toList());
     }
 
+    /**
+     * The results of a streaming query handler, together with the {@link UnitOfWork} the handler was invoked in. The
+     * {@code UnitOfWork} is not bound to a thread while the results are retrieved, and is resumed on the thread
+     * terminating the results to be committed or rolled back.
+     *
+     * @param <R> the type of the results
+     */
+    private static class StreamingQueryInvocation<R> {
+
+        private final UnitOfWork<?> unitOfWork;
+        private final MessageMonitor.MonitorCallback monitorCallback;
+        private final Flux<QueryResponseMessage<R>> results;
+
+        private StreamingQueryInvocation(UnitOfWork<?> unitOfWork,
+                                         MessageMonitor.MonitorCallback monitorCallback,
+                                         Flux<QueryResponseMessage<R>> results) {
+            this.unitOfWork = unitOfWork;
+            this.monitorCallback = monitorCallback;
+            this.results = results;
+        }
+
+        private Flux<QueryResponseMessage<R>> results() {
+            return results;
+        }
+
+        private Mono<Void> commit() {
+            return Mono.fromRunnable(() -> {
+                CurrentUnitOfWork.set(unitOfWork);
+                try {
+                    unitOfWork.commit();
+                } catch (RuntimeException e) {
+                    monitorCallback.reportFailure(e);
+                    throw e;
+                }
+                monitorCallback.reportSuccess();
+            });
+        }
+
+        private Mono<Void> rollback(Throwable cause) {
+            return Mono.fromRunnable(() -> {
+                CurrentUnitOfWork.set(unitOfWork);
+                unitOfWork.rollback(cause);
+                monitorCallback.reportFailure(cause);
+            });
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link SimpleQueryBus}.
      * <p>
@@ -391,6 +606,7 @@ public static class Builder {
                                                                                              .logger(logger)
                                                                                              .build();
         private QueryUpdateEmitter queryUpdateEmitter = SimpleQueryUpdateEmitter.builder().build();
+        private Executor scatterGatherExecutor;
 
         /**
          * Sets the {@link MessageMonitor} used to monitor query messages. Defaults to a {@link NoOpMessageMonitor}.
@@ -445,6 +661,23 @@ public Builder queryUpdateEmitter(QueryUpdateEmitter queryUpdateEmitter) {
             return this;
         }
 
+        /**
+         * Sets the {@link Executor} used to invoke the handlers of a {@link QueryBus#scatterGather(QueryMessage, long,
+         * TimeUnit) scatter-gather} query in parallel. The resulting {@link Stream} then provides the responses as soon
+         * as the individual handlers complete, and ends with the responses received so far once the timeout expires.
+         * <p>
+         * By default, no {@code Executor} is set, causing the handlers to be invoked one after the other on the thread
+         * consuming the resulting {@code Stream}.
+         *
+         * @param scatterGatherExecutor the {@link Executor} used to invoke the handlers of a scatter-gather query
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scatterGatherExecutor(Executor scatterGatherExecutor) {
+            assertNonNull(scatterGatherExecutor, "The scatter-gather Executor may not be null");
+            this.scatterGatherExecutor = scatterGatherExecutor;
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleQueryBus} as specified through this Builder.
          *
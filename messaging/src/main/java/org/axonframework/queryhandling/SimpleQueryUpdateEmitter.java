@@ -17,7 +17,10 @@
 package org.axonframework.queryhandling;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
 import org.axonframework.common.Registration;
+import org.axonframework.lifecycle.Phase;
+import org.axonframework.lifecycle.ShutdownHandler;
 import org.axonframework.messaging.MessageDispatchInterceptor;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
@@ -30,18 +33,26 @@
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
 
 /**
  * Implementation of {@link QueryUpdateEmitter} that uses Project Reactor to implement Update Handlers.
@@ -60,6 +71,12 @@ public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
 
     private final ConcurrentMap<SubscriptionQueryMessage<?, ?, ?>, SinkWrapper<?>> updateHandlers =
             new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Object, Set<SubscriptionQueryMessage<?, ?, ?>>>> routingIndex =
+            new ConcurrentHashMap<>();
+    private final Map<String, Function<Object, ?>> routingKeyExtractors;
+    private final Map<String, UpdateConflation> updateConflations;
+    private final ScheduledExecutorService conflationScheduler;
+    private final boolean ownsConflationScheduler;
     private final List<MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>>> dispatchInterceptors =
             new CopyOnWriteArrayList<>();
 
@@ -71,12 +88,17 @@ public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
     protected SimpleQueryUpdateEmitter(Builder builder) {
         builder.validate();
         this.updateMessageMonitor = builder.updateMessageMonitor;
+        this.routingKeyExtractors = new HashMap<>(builder.routingKeyExtractors);
+        this.updateConflations = new HashMap<>(builder.updateConflations);
+        this.ownsConflationScheduler = !updateConflations.isEmpty() && builder.conflationScheduler == null;
+        this.conflationScheduler = updateConflations.isEmpty() ? null : builder.conflationScheduler();
     }
 
     /**
      * Instantiate a Builder to be able to create a {@link SimpleQueryUpdateEmitter}.
      * <p>
-     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}.
+     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}. The routing key of subscription queries
+     * defaults to their payload.
      *
      * @return a Builder to be able to create a {@link SimpleQueryUpdateEmitter}
      */
@@ -103,12 +125,13 @@ public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryM
                                                                   int updateBufferSize) {
         EmitterProcessor<SubscriptionQueryUpdateMessage<U>> processor = EmitterProcessor.create(updateBufferSize);
         FluxSink<SubscriptionQueryUpdateMessage<U>> sink = processor.sink(backpressure.getOverflowStrategy());
-        sink.onDispose(() -> updateHandlers.remove(query));
-        FluxSinkWrapper<SubscriptionQueryUpdateMessage<U>> fluxSinkWrapper = new FluxSinkWrapper<>(sink);
-        updateHandlers.put(query, fluxSinkWrapper);
+        sink.onDispose(() -> removeUpdateHandler(query));
+        SinkWrapper<SubscriptionQueryUpdateMessage<U>> fluxSinkWrapper =
+                conflating(query, new FluxSinkWrapper<>(sink));
+        addUpdateHandler(query, fluxSinkWrapper);
 
         Registration registration = () -> {
-            updateHandlers.remove(query);
+            removeUpdateHandler(query);
             return true;
         };
 
@@ -121,27 +144,120 @@ public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryM
     public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
                                                                   int updateBufferSize) {
         Sinks.Many<SubscriptionQueryUpdateMessage<U>> sink = Sinks.many().replay().limit(updateBufferSize);
-        SinksManyWrapper<SubscriptionQueryUpdateMessage<U>> sinksManyWrapper = new SinksManyWrapper<>(sink);
+        SinkWrapper<SubscriptionQueryUpdateMessage<U>> sinksManyWrapper =
+                conflating(query, new SinksManyWrapper<>(sink));
 
-        Runnable removeHandler = () -> updateHandlers.remove(query);
+        Runnable removeHandler = () -> removeUpdateHandler(query);
         Registration registration = () -> {
             removeHandler.run();
             return true;
         };
 
-        updateHandlers.put(query, sinksManyWrapper);
+        addUpdateHandler(query, sinksManyWrapper);
         Flux<SubscriptionQueryUpdateMessage<U>> updateMessageFlux = sink.asFlux()
                                                                         .doOnCancel(removeHandler)
                                                                         .doOnTerminate(removeHandler);
         return new UpdateHandlerRegistration<>(registration, updateMessageFlux, sinksManyWrapper::complete);
     }
 
+    private <U> SinkWrapper<SubscriptionQueryUpdateMessage<U>> conflating(
+            SubscriptionQueryMessage<?, ?, ?> query,
+            SinkWrapper<SubscriptionQueryUpdateMessage<U>> sinkWrapper
+    ) {
+        UpdateConflation conflation = updateConflations.get(query.getQueryName());
+        if (conflation == null) {
+            return sinkWrapper;
+        }
+        return new ConflatingSinkWrapper<>(sinkWrapper,
+                                           conflation.windowMillis,
+                                           conflation.conflationKey,
+                                           conflationScheduler,
+                                           e -> {
+                                               logger.info("An error occurred while trying to emit conflated updates "
+                                                                   + "to a query '{}'. The subscription will be "
+                                                                   + "cancelled. Exception summary: {}",
+                                                           query.getQueryName(), e.toString());
+                                               removeUpdateHandler(query);
+                                               emitError(query, e, sinkWrapper);
+                                           });
+    }
+
+    /**
+     * Registers the given {@code updateHandler} for the given {@code query}. If the query has a routing key, the
+     * handler and the routing index entry are added within a single {@link ConcurrentMap#compute} on the query name, so
+     * a concurrent {@link #removeUpdateHandler(SubscriptionQueryMessage) removal} can neither drop the index container
+     * the query is added to nor leave a stale index entry behind.
+     */
+    private void addUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query, SinkWrapper<?> updateHandler) {
+        Object routingKey = routingKeyOf(query);
+        if (routingKey == null) {
+            updateHandlers.put(query, updateHandler);
+            return;
+        }
+        routingIndex.compute(query.getQueryName(), (queryName, queriesByKey) -> {
+            ConcurrentMap<Object, Set<SubscriptionQueryMessage<?, ?, ?>>> result =
+                    queriesByKey == null ? new ConcurrentHashMap<>() : queriesByKey;
+            result.computeIfAbsent(routingKey, key -> ConcurrentHashMap.newKeySet()).add(query);
+            updateHandlers.put(query, updateHandler);
+            return result;
+        });
+    }
+
+    private void removeUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query) {
+        Object routingKey = routingKeyOf(query);
+        if (routingKey == null) {
+            updateHandlers.remove(query);
+            return;
+        }
+        routingIndex.compute(query.getQueryName(), (queryName, queriesByKey) -> {
+            if (updateHandlers.remove(query) == null || queriesByKey == null) {
+                return queriesByKey;
+            }
+            queriesByKey.computeIfPresent(routingKey, (key, queries) -> {
+                queries.remove(query);
+                return queries.isEmpty() ? null : queries;
+            });
+            return queriesByKey.isEmpty() ? null : queriesByKey;
+        });
+    }
+
+    private Object routingKeyOf(SubscriptionQueryMessage<?, ?, ?> query) {
+        Function<Object, ?> routingKeyExtractor = routingKeyExtractors.get(query.getQueryName());
+        if (routingKeyExtractor == null) {
+            return null;
+        }
+        try {
+            return routingKeyExtractor.apply(query.getPayload());
+        } catch (Exception e) {
+            logger.debug("Unable to extract the routing key of query [{}]. "
+                                 + "Updates can only be emitted to it through a filter.", query.getQueryName(), e);
+            return null;
+        }
+    }
+
     @Override
     public <U> void emit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
                          SubscriptionQueryUpdateMessage<U> update) {
         runOnAfterCommitOrNow(() -> doEmit(filter, intercept(update)));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For query names with a routing key extractor registered through {@link Builder#routingKeyExtractor(String,
+     * Function)}, this implementation keeps an index of the active subscription queries by routing key, so the cost of
+     * emitting an update depends on the number of matching subscription queries only. Subscription queries of other
+     * query names are not indexed, and are matched by comparing their payload with the given {@code routingKey}.
+     */
+    @Override
+    public <U> void emit(String queryName, Object routingKey, SubscriptionQueryUpdateMessage<U> update) {
+        if (!routingKeyExtractors.containsKey(queryName)) {
+            QueryUpdateEmitter.super.emit(queryName, routingKey, update);
+            return;
+        }
+        runOnAfterCommitOrNow(() -> doEmit(queryName, routingKey, intercept(update)));
+    }
+
     private <U> SubscriptionQueryUpdateMessage<U> intercept(SubscriptionQueryUpdateMessage<U> message) {
         SubscriptionQueryUpdateMessage<U> intercepted = message;
         for (MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>> interceptor : dispatchInterceptors) {
@@ -178,6 +294,15 @@ private <U> void doEmit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
                                                 .ifPresent(uh -> doEmit(query, uh, update)));
     }
 
+    private <U> void doEmit(String queryName, Object routingKey, SubscriptionQueryUpdateMessage<U> update) {
+        Map<Object, Set<SubscriptionQueryMessage<?, ?, ?>>> queriesByKey = routingIndex.get(queryName);
+        Set<SubscriptionQueryMessage<?, ?, ?>> queries = queriesByKey == null ? null : queriesByKey.get(routingKey);
+        if (queries != null) {
+            queries.forEach(query -> Optional.ofNullable(updateHandlers.get(query))
+                                             .ifPresent(uh -> doEmit(query, uh, update)));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <U> void doEmit(SubscriptionQueryMessage<?, ?, ?> query, SinkWrapper<?> updateHandler,
                             SubscriptionQueryUpdateMessage<U> update) {
@@ -190,7 +315,7 @@ private <U> void doEmit(SubscriptionQueryMessage<?, ?, ?> query, SinkWrapper<?>
                                 "The subscription will be cancelled. Exception summary: {}",
                         query.getQueryName(), e.toString());
             monitorCallback.reportFailure(e);
-            updateHandlers.remove(query);
+            removeUpdateHandler(query);
             emitError(query, e, updateHandler);
         }
     }
@@ -273,15 +398,34 @@ private boolean inStartedPhaseOfUnitOfWork() {
         return Collections.unmodifiableSet(updateHandlers.keySet());
     }
 
+    /**
+     * Shuts down the {@link ScheduledExecutorService} handing conflated updates to subscribers, if it was created by
+     * this emitter. Conflated updates which are already scheduled are still handed to their subscribers. A scheduler
+     * provided through {@link Builder#conflationScheduler(ScheduledExecutorService)} is left untouched, as its
+     * lifecycle is managed by the caller.
+     * <p>
+     * Will shutdown in the {@link Phase#OUTBOUND_QUERY_CONNECTORS} phase.
+     */
+    @ShutdownHandler(phase = Phase.OUTBOUND_QUERY_CONNECTORS)
+    public void shutdown() {
+        if (ownsConflationScheduler) {
+            conflationScheduler.shutdown();
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link SimpleQueryUpdateEmitter}.
      * <p>
-     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}.
+     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}. The routing key of subscription queries
+     * defaults to their payload. Updates are not conflated by default.
      */
     public static class Builder {
 
         private MessageMonitor<? super SubscriptionQueryUpdateMessage<?>> updateMessageMonitor =
                 NoOpMessageMonitor.INSTANCE;
+        private final Map<String, Function<Object, ?>> routingKeyExtractors = new HashMap<>();
+        private final Map<String, UpdateConflation> updateConflations = new HashMap<>();
+        private ScheduledExecutorService conflationScheduler;
 
         /**
          * Sets the {@link MessageMonitor} used to monitor {@link SubscriptionQueryUpdateMessage}s being processed.
@@ -298,6 +442,106 @@ public Builder updateMessageMonitor(
             return this;
         }
 
+        /**
+         * Registers the function extracting the routing key from the payload of subscription queries with the given
+         * {@code queryName}. Updates emitted through {@link QueryUpdateEmitter#emit(String, Object,
+         * SubscriptionQueryUpdateMessage)} reach the subscription queries with the given {@code queryName} of which the
+         * extracted routing key equals the routing key of the update. Only subscription queries with a registered
+         * extractor are indexed by routing key. When no extractor is registered for a query name, updates emitted by
+         * routing key are matched against the payload of every active subscription query instead. An extractor
+         * returning {@code null} excludes the subscription query from the routing index.
+         * <p>
+         * For example, for a {@code FindOrder} query containing an {@code orderId}, registering {@code
+         * routingKeyExtractor("FindOrder", query -> ((FindOrder) query).getOrderId())} allows updates to be emitted
+         * with {@code emit("FindOrder", orderId, update)}.
+         *
+         * @param queryName           the name of the subscription queries to extract the routing key of
+         * @param routingKeyExtractor the function extracting the routing key from the payload of the subscription
+         *                            queries
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder routingKeyExtractor(String queryName, Function<Object, ?> routingKeyExtractor) {
+            assertNonNull(queryName, "The query name may not be null");
+            assertNonNull(routingKeyExtractor, "The routing key extractor may not be null");
+            this.routingKeyExtractors.put(queryName, routingKeyExtractor);
+            return this;
+        }
+
+        /**
+         * Conflates the updates of subscription queries with the given {@code queryName}, retaining only the latest
+         * update emitted within the given {@code window}. The window starts at the first update emitted after the
+         * previous batch of updates was handed to the subscriber. Completing a subscription query hands any retained
+         * update to the subscriber first.
+         * <p>
+         * Use this for subscription queries whose updates replace the previous state, like a frequently changing
+         * projection of a single entity, to reduce the number of updates handed to the subscriber.
+         *
+         * @param queryName the name of the subscription queries to conflate the updates of
+         * @param window    the duration during which updates are conflated, at least one millisecond
+         * @return the current Builder instance, for fluent interfacing
+         * @see #conflateUpdates(String, Duration, Function)
+         */
+        public Builder conflateUpdates(String queryName, Duration window) {
+            return conflateUpdates(queryName, window, update -> Boolean.TRUE);
+        }
+
+        /**
+         * Conflates the updates of subscription queries with the given {@code queryName}, retaining only the latest
+         * update per conflation key emitted within the given {@code window}. The {@code conflationKey} function
+         * resolves the key of an update, like the identifier of the entity it describes. At the end of the window,
+         * the retained updates are handed to the subscriber in the order their latest update was emitted. The window
+         * starts at the first update emitted after the previous batch of updates was handed to the subscriber.
+         * Completing a subscription query hands any retained update to the subscriber first.
+         * <p>
+         * Any {@link QueryBus} handing out the updates of this emitter, like the {@code AxonServerQueryBus}, hands out
+         * the conflated updates.
+         *
+         * @param queryName     the name of the subscription queries to conflate the updates of
+         * @param window        the duration during which updates are conflated, at least one millisecond
+         * @param conflationKey the function resolving the key of an update, updates with equal keys replace each
+         *                      other within a window
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder conflateUpdates(String queryName,
+                                       Duration window,
+                                       Function<SubscriptionQueryUpdateMessage<?>, ?> conflationKey) {
+            assertNonNull(queryName, "The query name may not be null");
+            assertNonNull(window, "The conflation window may not be null");
+            assertThat(window, w -> w.toMillis() >= 1, "The conflation window should be at least one millisecond");
+            assertNonNull(conflationKey, "The conflation key function may not be null");
+            this.updateConflations.put(queryName, new UpdateConflation(window.toMillis(), conflationKey));
+            return this;
+        }
+
+        /**
+         * Sets the {@link ScheduledExecutorService} used to hand conflated updates to subscribers at the end of a
+         * conflation window. Only used when updates are conflated through {@link #conflateUpdates(String, Duration,
+         * Function)}. Defaults to a single threaded {@link ScheduledExecutorService} using daemon threads, which is shut
+         * down by {@link SimpleQueryUpdateEmitter#shutdown()}. A scheduler set through this method is not shut down by
+         * the emitter.
+         *
+         * @param conflationScheduler the {@link ScheduledExecutorService} used to hand conflated updates to
+         *                            subscribers
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder conflationScheduler(ScheduledExecutorService conflationScheduler) {
+            assertNonNull(conflationScheduler, "The conflation scheduler may not be null");
+            this.conflationScheduler = conflationScheduler;
+            return this;
+        }
+
+        private ScheduledExecutorService conflationScheduler() {
+            if (conflationScheduler != null) {
+                return conflationScheduler;
+            }
+            ThreadFactory threadFactory = new AxonThreadFactory("SubscriptionQueryUpdateConflation");
+            return Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = threadFactory.newThread(r);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
         /**
          * Initializes a {@link SimpleQueryUpdateEmitter} as specified through this Builder.
          *
@@ -317,4 +561,15 @@ protected void validate() throws AxonConfigurationException {
             // Kept to be overridden
         }
     }
+
+    private static class UpdateConflation {
+
+        private final long windowMillis;
+        private final Function<SubscriptionQueryUpdateMessage<?>, ?> conflationKey;
+
+        private UpdateConflation(long windowMillis, Function<SubscriptionQueryUpdateMessage<?>, ?> conflationKey) {
+            this.windowMillis = windowMillis;
+            this.conflationKey = conflationKey;
+        }
+    }
 }
@@ -20,9 +20,14 @@
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static java.lang.String.format;
+
 /**
  * Converter implementation that will combine converters to form chains of converters to be able to convert
  * from one type to another, for which there is no suitable single converter.
@@ -30,6 +35,9 @@
  * This implementation will also autodetect ContentTypeConverter implementations by scanning
  * {@code /META-INF/services/org.axonframework.serialization.ContentTypeConverter} files on the classpath. These
  * files must contain the fully qualified class names of the implementations to use.
+ * <p/>
+ * The converter, or chain of converters, used for a combination of source and target type is resolved once and cached
+ * for subsequent conversions. Registering a converter replaces the cached resolutions with an empty cache.
  *
  * @author Allard Buijze
  * @since 2.0
@@ -38,6 +46,8 @@ public class ChainingConverter implements Converter {
 
     private static final Logger logger = LoggerFactory.getLogger(ChainingConverter.class);
     private final List<ContentTypeConverter<?, ?>> converters = new CopyOnWriteArrayList<>();
+    private volatile ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Optional<ContentTypeConverter<?, ?>>>> routes =
+            new ConcurrentHashMap<>();
 
     /**
      * Initialize a new ChainingConverter with the context ClassLoader for this thread. Will autodetect all converters
@@ -70,15 +80,7 @@ public ChainingConverter(ClassLoader classLoader) {
 
     @Override
     public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
-        if (sourceType.equals(targetType)) {
-            return true;
-        }
-        for (ContentTypeConverter converter : converters) {
-            if (canConvert(converter, sourceType, targetType)) {
-                return true;
-            }
-        }
-        return ChainedConverter.canConvert(sourceType, targetType, converters);
+        return sourceType.equals(targetType) || converterFor(sourceType, targetType).isPresent();
     }
 
     @Override
@@ -87,14 +89,38 @@ public <T> T convert(Object original, Class<?> sourceType, Class<T> targetType)
         if (sourceType.equals(targetType)) {
             return (T) original;
         }
-        for (ContentTypeConverter converter : converters) {
+        ContentTypeConverter converter = converterFor(sourceType, targetType).orElseThrow(
+                () -> new CannotConvertBetweenTypesException(format(
+                        "Cannot build a converter to convert from %s to %s", sourceType.getName(), targetType.getName()
+                ))
+        );
+        return (T) converter.convert(original);
+    }
+
+    private Optional<ContentTypeConverter<?, ?>> converterFor(Class<?> sourceType, Class<?> targetType) {
+        ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Optional<ContentTypeConverter<?, ?>>>> currentRoutes = routes;
+        ConcurrentMap<Class<?>, Optional<ContentTypeConverter<?, ?>>> routesFromSource = currentRoutes.get(sourceType);
+        if (routesFromSource == null) {
+            routesFromSource = currentRoutes.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>());
+        }
+        Optional<ContentTypeConverter<?, ?>> route = routesFromSource.get(targetType);
+        if (route == null) {
+            route = routesFromSource.computeIfAbsent(targetType, type -> findConverter(sourceType, targetType));
+        }
+        return route;
+    }
+
+    private Optional<ContentTypeConverter<?, ?>> findConverter(Class<?> sourceType, Class<?> targetType) {
+        for (ContentTypeConverter<?, ?> converter : converters) {
             if (canConvert(converter, sourceType, targetType)) {
-                return (T) converter.convert(original);
+                return Optional.of(converter);
             }
         }
-        ChainedConverter converter = ChainedConverter.calculateChain(sourceType, targetType, converters);
-        converters.add(0, converter);
-        return (T) converter.convert(original);
+        try {
+            return Optional.of(ChainedConverter.calculateChain(sourceType, targetType, converters));
+        } catch (CannotConvertBetweenTypesException e) {
+            return Optional.empty();
+        }
     }
 
     private <S, T> boolean canConvert(ContentTypeConverter<?, ?> converter, Class<S> sourceContentType,
@@ -127,6 +153,8 @@ private <S, T> boolean canConvert(ContentTypeConverter<?, ?> converter, Class<S>
      */
     public void registerConverter(ContentTypeConverter converter) {
         converters.add(0, converter);
+        // Replace rather than clear the routes, so lookups still in progress can't cache a stale route in them
+        routes = new ConcurrentHashMap<>();
     }
 
     /**
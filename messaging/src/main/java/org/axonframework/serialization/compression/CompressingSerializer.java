@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.compression;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * {@link Serializer} decorator compressing the serialized form of objects produced by a delegate serializer. Only
+ * serialized forms of at least the configured compression threshold are compressed, and only if compressing actually
+ * reduces their size. Compressed data is prefixed with a short header, containing the identifier of the {@link
+ * CompressionCodec} used. Data without this header is handed to the delegate as is, which allows a mix of compressed
+ * and uncompressed data (for example, events stored before compression was enabled) to be read. The header starts
+ * with a control character which cannot start a JSON, XML, Java serialized or CBOR document.
+ * <p>
+ * Compression is only applied when serializing to a binary representation, being {@code byte[]}, {@link InputStream}
+ * or {@link ByteBuffer}. Serializing to any other representation, like a {@code String}, is left to the delegate. The
+ * {@link Converter} of this serializer decompresses data before converting it, so upcasters operate on the
+ * uncompressed form of the data.
+ * <p>
+ * This serializer is typically configured as the event and snapshot serializer of an event storage engine, trading a
+ * bit of CPU for a smaller event store and less I/O when reading events.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class CompressingSerializer implements Serializer {
+
+    private static final byte[] HEADER = {0x1E, 'Z'};
+    private static final int HEADER_LENGTH = HEADER.length + 1;
+
+    private final Serializer delegate;
+    private final CompressionCodec compressionCodec;
+    private final Map<Byte, CompressionCodec> codecs;
+    private final int compressionThreshold;
+    private final Converter converter;
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CompressingSerializer}.
+     * <p>
+     * The {@link CompressionCodec} defaults to a {@link DeflateCompressionCodec} and the compression threshold to
+     * {@code 1024} bytes. The delegate {@link Serializer} is a <b>hard requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link CompressingSerializer}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link CompressingSerializer} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the delegate {@link Serializer} is not {@code null}, and will throw an {@link
+     * AxonConfigurationException} if this is not the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CompressingSerializer} instance
+     */
+    protected CompressingSerializer(Builder builder) {
+        builder.validate();
+        this.delegate = builder.delegate;
+        this.compressionCodec = builder.compressionCodec;
+        this.codecs = new HashMap<>(builder.additionalCodecs);
+        this.codecs.put(compressionCodec.getIdentifier(), compressionCodec);
+        this.compressionThreshold = builder.compressionThreshold;
+        this.converter = new DecompressingConverter();
+    }
+
+    @Override
+    public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
+        if (!isBinary(expectedRepresentation)) {
+            return delegate.serialize(object, expectedRepresentation);
+        }
+        SerializedObject<byte[]> serialized = delegate.serialize(object, byte[].class);
+        byte[] data = serialized.getData();
+        if (data.length >= compressionThreshold) {
+            data = compress(data);
+        }
+        return new SimpleSerializedObject<>(
+                delegate.getConverter().convert(data, byte[].class, expectedRepresentation),
+                expectedRepresentation,
+                serialized.getType()
+        );
+    }
+
+    @Override
+    public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+        return delegate.canSerializeTo(expectedRepresentation);
+    }
+
+    @Override
+    public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+        return delegate.deserialize(decompress(serializedObject));
+    }
+
+    @Override
+    public Class classForType(SerializedType type) {
+        return delegate.classForType(type);
+    }
+
+    @Override
+    public SerializedType typeForClass(Class type) {
+        return delegate.typeForClass(type);
+    }
+
+    @Override
+    public Converter getConverter() {
+        return converter;
+    }
+
+    private static boolean isBinary(Class<?> representation) {
+        return byte[].class.equals(representation)
+                || InputStream.class.equals(representation)
+                || ByteBuffer.class.equals(representation);
+    }
+
+    private byte[] compress(byte[] data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2);
+        output.write(HEADER, 0, HEADER.length);
+        output.write(compressionCodec.getIdentifier());
+        try (OutputStream compressing = compressionCodec.compress(output)) {
+            compressing.write(data);
+        } catch (IOException e) {
+            throw new SerializationException("Unable to compress serialized data", e);
+        }
+        return output.size() < data.length ? output.toByteArray() : data;
+    }
+
+    /**
+     * Returns the given {@code serializedObject} with its data decompressed, if that data is compressed. Otherwise, the
+     * given {@code serializedObject} is returned as is, unless its data had to be read into a byte array to find out.
+     */
+    @SuppressWarnings("unchecked")
+    private SerializedObject<?> decompress(SerializedObject<?> serializedObject) {
+        Class<?> contentType = serializedObject.getContentType();
+        if (ByteBuffer.class.equals(contentType)) {
+            ByteBuffer buffer = (ByteBuffer) serializedObject.getData();
+            if (!isCompressed(buffer)) {
+                return serializedObject;
+            }
+        } else if (!isBinary(contentType)) {
+            return serializedObject;
+        }
+        SerializedObject<byte[]> bytes = byte[].class.equals(contentType)
+                ? (SerializedObject<byte[]>) serializedObject
+                : delegate.getConverter().convert(serializedObject, byte[].class);
+        if (!isCompressed(bytes.getData())) {
+            return bytes;
+        }
+        return new SimpleSerializedObject<>(decompress(bytes.getData()), byte[].class, bytes.getType());
+    }
+
+    private static boolean isCompressed(byte[] data) {
+        return data.length >= HEADER_LENGTH && data[0] == HEADER[0] && data[1] == HEADER[1];
+    }
+
+    private static boolean isCompressed(ByteBuffer buffer) {
+        int position = buffer.position();
+        return buffer.remaining() >= HEADER_LENGTH
+                && buffer.get(position) == HEADER[0] && buffer.get(position + 1) == HEADER[1];
+    }
+
+    private byte[] decompress(byte[] data) {
+        CompressionCodec codec = codecs.get(data[HEADER.length]);
+        if (codec == null) {
+            throw new SerializationException(
+                    "Unable to decompress serialized data, as no codec is configured for identifier ["
+                            + data[HEADER.length] + "]"
+            );
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length * 4);
+        try (InputStream decompressing = codec.decompress(
+                new ByteArrayInputStream(data, HEADER_LENGTH, data.length - HEADER_LENGTH)
+        )) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = decompressing.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Unable to decompress serialized data", e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * {@link Converter} decompressing binary data before handing it to the converter of the delegate {@link
+     * Serializer}. Compressed data is decompressed even if it is converted to its own type, so that upcasters
+     * requesting a binary representation receive the uncompressed data.
+     */
+    private class DecompressingConverter implements Converter {
+
+        @Override
+        public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+            return delegate.getConverter().canConvert(sourceType, targetType);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T convert(Object original, Class<?> sourceType, Class<T> targetType) {
+            SerializedObject<?> decompressed = decompress(
+                    new SimpleSerializedObject<>(original, (Class<Object>) sourceType, SerializedType.emptyType())
+            );
+            return delegate.getConverter().convert(decompressed.getData(), decompressed.getContentType(), targetType);
+        }
+
+        @Override
+        public <T> SerializedObject<T> convert(SerializedObject<?> original, Class<T> targetType) {
+            return delegate.getConverter().convert(decompress(original), targetType);
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link CompressingSerializer}.
+     * <p>
+     * The {@link CompressionCodec} defaults to a {@link DeflateCompressionCodec} and the compression threshold to
+     * {@code 1024} bytes. The delegate {@link Serializer} is a <b>hard requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private Serializer delegate;
+        private CompressionCodec compressionCodec = new DeflateCompressionCodec();
+        private final Map<Byte, CompressionCodec> additionalCodecs = new HashMap<>();
+        private int compressionThreshold = 1024;
+
+        /**
+         * Sets the {@link Serializer} to serialize objects with, before compressing the result, and to deserialize
+         * decompressed data with.
+         *
+         * @param delegate the {@link Serializer} to serialize and deserialize objects with
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder delegate(Serializer delegate) {
+            assertNonNull(delegate, "Delegate Serializer may not be null");
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the {@link CompressionCodec} used to compress serialized data. Data compressed by this codec can be
+         * decompressed as well. Defaults to a {@link DeflateCompressionCodec}.
+         *
+         * @param compressionCodec the {@link CompressionCodec} used to compress serialized data
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder compressionCodec(CompressionCodec compressionCodec) {
+            assertNonNull(compressionCodec, "The CompressionCodec may not be null");
+            this.compressionCodec = compressionCodec;
+            return this;
+        }
+
+        /**
+         * Registers an additional {@link CompressionCodec} used to decompress data, without using it for compression.
+         * This allows data compressed by a previously configured codec to still be read after switching to another
+         * {@link #compressionCodec(CompressionCodec) compression codec}.
+         *
+         * @param decompressionCodec an additional {@link CompressionCodec} to decompress data with
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder decompressionCodec(CompressionCodec decompressionCodec) {
+            assertNonNull(decompressionCodec, "The CompressionCodec may not be null");
+            this.additionalCodecs.put(decompressionCodec.getIdentifier(), decompressionCodec);
+            return this;
+        }
+
+        /**
+         * Sets the minimum size in bytes of serialized data to compress. Smaller data is stored uncompressed, as the
+         * gain of compressing it is typically not worth the CPU. A threshold of {@code 0} attempts to compress all
+         * data. Defaults to {@code 1024} bytes.
+         *
+         * @param compressionThreshold the minimum size in bytes of serialized data to compress, which may not be
+         *                             negative
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder compressionThreshold(int compressionThreshold) {
+            assertThat(compressionThreshold, threshold -> threshold >= 0,
+                       "The compression threshold may not be negative");
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CompressingSerializer} as specified through this Builder.
+         *
+         * @return a {@link CompressingSerializer} as specified through this Builder
+         */
+        public CompressingSerializer build() {
+            return new CompressingSerializer(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(delegate, "The delegate Serializer is a hard requirement and should be provided");
+        }
+    }
+}
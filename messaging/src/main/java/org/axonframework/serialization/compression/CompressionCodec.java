@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A codec used by the {@link CompressingSerializer} to compress and decompress serialized data. Each codec is
+ * identified by a single byte, which is stored alongside the compressed data. This allows data compressed by different
+ * codecs, as well as uncompressed data, to be read by the same serializer.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public interface CompressionCodec {
+
+    /**
+     * Returns the identifier of this codec, which is stored with all data compressed by it. The identifier must be
+     * unique among the codecs configured on a {@link CompressingSerializer}, and should never change once data has been
+     * compressed with it.
+     *
+     * @return the identifier of this codec
+     */
+    byte getIdentifier();
+
+    /**
+     * Wraps the given {@code output} in a stream compressing all data written to it. Closing the returned stream
+     * finishes the compression and closes the given {@code output}.
+     *
+     * @param output the stream to write the compressed data to
+     * @return a stream compressing the data written to it into the given {@code output}
+     * @throws IOException when the compressing stream could not be created
+     */
+    OutputStream compress(OutputStream output) throws IOException;
+
+    /**
+     * Wraps the given {@code input}, containing data compressed by this codec, in a stream returning the decompressed
+     * data.
+     *
+     * @param input the stream containing the compressed data
+     * @return a stream returning the decompressed data of the given {@code input}
+     * @throws IOException when the decompressing stream could not be created
+     */
+    InputStream decompress(InputStream input) throws IOException;
+}
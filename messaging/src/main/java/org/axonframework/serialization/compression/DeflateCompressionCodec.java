@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * {@link CompressionCodec} implementation using the DEFLATE algorithm of the JDK's {@link Deflater}. This codec is
+ * identified by {@code 1}.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class DeflateCompressionCodec implements CompressionCodec {
+
+    private static final byte IDENTIFIER = 1;
+
+    private final int compressionLevel;
+
+    /**
+     * Instantiate a {@link DeflateCompressionCodec} using the {@link Deflater#DEFAULT_COMPRESSION default compression
+     * level}.
+     */
+    public DeflateCompressionCodec() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Instantiate a {@link DeflateCompressionCodec} using the given {@code compressionLevel}, ranging from {@link
+     * Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.
+     *
+     * @param compressionLevel the compression level to deflate data with
+     */
+    public DeflateCompressionCodec(int compressionLevel) {
+        assertThat(compressionLevel,
+                   level -> level == Deflater.DEFAULT_COMPRESSION
+                           || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION),
+                   "The compression level should be between 0 and 9, or -1 for the default compression level");
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public byte getIdentifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream output) {
+        Deflater deflater = new Deflater(compressionLevel);
+        return new DeflaterOutputStream(output, deflater) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+    }
+
+    @Override
+    public InputStream decompress(InputStream input) {
+        return new InflaterInputStream(input);
+    }
+}
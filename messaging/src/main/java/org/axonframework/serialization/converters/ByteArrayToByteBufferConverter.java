@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.converters;
+
+import org.axonframework.serialization.ContentTypeConverter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ContentTypeConverter that converts byte arrays into a {@link ByteBuffer}. The returned buffer wraps the given array,
+ * meaning no data is copied during conversion.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class ByteArrayToByteBufferConverter implements ContentTypeConverter<byte[], ByteBuffer> {
+
+    @Override
+    public Class<byte[]> expectedSourceType() {
+        return byte[].class;
+    }
+
+    @Override
+    public Class<ByteBuffer> targetType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public ByteBuffer convert(byte[] original) {
+        return ByteBuffer.wrap(original);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.converters;
+
+import org.axonframework.serialization.ContentTypeConverter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ContentTypeConverter that converts a {@link ByteBuffer} into a byte array containing the buffer's remaining bytes.
+ * If the buffer is backed by an accessible array that exactly matches its remaining content, that array is returned
+ * as is. Otherwise, the remaining bytes are copied into a new array. The position of the given buffer is never
+ * changed.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public class ByteBufferToByteArrayConverter implements ContentTypeConverter<ByteBuffer, byte[]> {
+
+    @Override
+    public Class<ByteBuffer> expectedSourceType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public Class<byte[]> targetType() {
+        return byte[].class;
+    }
+
+    @Override
+    public byte[] convert(ByteBuffer original) {
+        if (original.hasArray()
+                && original.arrayOffset() == 0
+                && original.position() == 0
+                && original.remaining() == original.array().length) {
+            return original.array();
+        }
+        byte[] bytes = new byte[original.remaining()];
+        original.duplicate().get(bytes);
+        return bytes;
+    }
+}
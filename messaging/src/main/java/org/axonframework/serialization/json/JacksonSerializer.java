@@ -23,6 +23,7 @@
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.ObjectUtils;
@@ -40,6 +41,10 @@
 import org.axonframework.serialization.UnknownSerializedType;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
@@ -47,6 +52,19 @@
  * Serializer implementation that uses Jackson to serialize objects into a JSON format. Although the Jackson serializer
  * requires classes to be compatible with this specific serializer, it providers much more compact serialization, while
  * still being human readable.
+ * <p>
+ * When configured with an {@link ObjectMapper} for a binary Jackson data format, like the {@code CBORMapper} or {@code
+ * SmileMapper} of the Jackson dataformat modules, objects are serialized into that binary format instead. This yields
+ * smaller payloads which are faster to parse, at the expense of readability. As the {@link JsonNode} converters
+ * registered by this serializer use the same ObjectMapper, upcasters working on a {@link JsonNode} representation
+ * keep working for binary formats. Binary formats can not be represented as a {@link String}, so they require a
+ * binary column type in the storage engine.
+ * <p>
+ * To keep reflection and class loading off the per message path, this serializer caches the classes resolved for
+ * serialized type names, the {@link SerializedType} (including revision) of serialized classes and the {@link
+ * ObjectReader} used per payload class. These caches do not block concurrent readers and only hold entries for
+ * classes that could be resolved, so their size is bounded by the number of serialized classes. Type names that can
+ * not be resolved to a class are not cached, so a class that becomes available later on is picked up.
  *
  * @author Allard Buijze
  * @since 2.2
@@ -56,6 +74,10 @@ public class JacksonSerializer implements Serializer {
     private final RevisionResolver revisionResolver;
     private final Converter converter;
     private final ObjectMapper objectMapper;
+    private final boolean binaryFormat;
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, SerializedType> serializedTypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
 
     /**
      * Instantiate a Builder to be able to create a {@link JacksonSerializer}.
@@ -108,6 +130,7 @@ protected JacksonSerializer(Builder builder) {
         this.revisionResolver = builder.revisionResolver;
         this.converter = builder.converter;
         this.objectMapper = builder.objectMapper;
+        this.binaryFormat = objectMapper.getFactory().canHandleBinaryNatively();
 
         this.objectMapper.registerModule(
                 new SimpleModule("Axon-Jackson Module").addDeserializer(MetaData.class, new MetaDataDeserializer())
@@ -135,6 +158,11 @@ protected void registerConverters(ChainingConverter converter) {
     public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
         try {
             if (String.class.equals(expectedRepresentation)) {
+                if (binaryFormat) {
+                    throw new SerializationException(
+                            "Unable to serialize object to a String, as the ObjectMapper uses a binary format"
+                    );
+                }
                 //noinspection unchecked
                 return new SimpleSerializedObject<>((T) getWriter().writeValueAsString(object), expectedRepresentation,
                                                     typeForClass(ObjectUtils.nullSafeTypeOf(object)));
@@ -181,8 +209,11 @@ protected ObjectReader getReader(Class<?> type) {
 
     @Override
     public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
-        return JsonNode.class.equals(expectedRepresentation) || String.class.equals(expectedRepresentation) ||
-                converter.canConvert(byte[].class, expectedRepresentation);
+        if (String.class.equals(expectedRepresentation)) {
+            return !binaryFormat;
+        }
+        return JsonNode.class.equals(expectedRepresentation)
+                || converter.canConvert(byte[].class, expectedRepresentation);
     }
 
     @Override
@@ -196,26 +227,50 @@ public <S, T> T deserialize(SerializedObject<S> serializedObject) {
                 return (T) new UnknownSerializedType(this, serializedObject);
             }
             if (JsonNode.class.equals(serializedObject.getContentType())) {
-                return getReader(type)
+                return cachedReader(type)
                         .readValue((JsonNode) serializedObject.getData());
             }
+            if (ByteBuffer.class.equals(serializedObject.getContentType())) {
+                return readFromBuffer(cachedReader(type), (ByteBuffer) serializedObject.getData());
+            }
+            if (InputStream.class.equals(serializedObject.getContentType())) {
+                return cachedReader(type).readValue((InputStream) serializedObject.getData());
+            }
             SerializedObject<byte[]> byteSerialized = converter.convert(serializedObject, byte[].class);
-            return getReader(type).readValue(byteSerialized.getData());
+            return cachedReader(type).readValue(byteSerialized.getData());
         } catch (IOException e) {
             throw new SerializationException("Error while deserializing object", e);
         }
     }
 
+    /**
+     * Reads the remaining content of the given {@code buffer} with the given {@code reader}, without copying the data
+     * into an intermediate array. Array backed buffers are read from the slice of their backing array, while other
+     * buffers (such as direct or read-only ones) are streamed. The position of the given buffer is left untouched.
+     */
+    private <T> T readFromBuffer(ObjectReader reader, ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return reader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return reader.readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+
     @Override
     public Class classForType(SerializedType type) {
         if (SimpleSerializedType.emptyType().equals(type)) {
             return Void.class;
         }
-        try {
-            return objectMapper.getTypeFactory().findClass(resolveClassName(type));
-        } catch (ClassNotFoundException e) {
-            return UnknownSerializedType.class;
+        String className = resolveClassName(type);
+        Class<?> resolvedClass = classes.get(className);
+        if (resolvedClass == null) {
+            try {
+                resolvedClass = objectMapper.getTypeFactory().findClass(className);
+            } catch (ClassNotFoundException e) {
+                return UnknownSerializedType.class;
+            }
+            classes.put(className, resolvedClass);
         }
+        return resolvedClass;
     }
 
     /**
@@ -234,7 +289,25 @@ public SerializedType typeForClass(Class type) {
         if (type == null || Void.TYPE.equals(type) || Void.class.equals(type)) {
             return SimpleSerializedType.emptyType();
         }
-        return new SimpleSerializedType(type.getName(), revisionResolver.revisionOf(type));
+        SerializedType serializedType = serializedTypes.get(type);
+        if (serializedType == null) {
+            serializedType = new SimpleSerializedType(type.getName(), revisionResolver.revisionOf(type));
+            serializedTypes.put(type, serializedType);
+        }
+        return serializedType;
+    }
+
+    /**
+     * Returns the {@link ObjectReader} for the given {@code type}, as provided by {@link #getReader(Class)}. Readers
+     * are reused for as long as the configuration of the {@link ObjectMapper} does not change.
+     */
+    private ObjectReader cachedReader(Class<?> type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null || reader.getConfig() != objectMapper.getDeserializationConfig()) {
+            reader = getReader(type);
+            readers.put(type, reader);
+        }
+        return reader;
     }
 
     @Override
@@ -304,6 +377,9 @@ public Builder converter(Converter converter) {
         /**
          * Sets the {@link ObjectMapper} used to serialize and parse the objects to JSON. This ObjectMapper allows for
          * customization of the serialized form. Defaults to the output of {@link ObjectMapper#ObjectMapper()}.
+         * <p>
+         * An ObjectMapper for a binary data format, like a {@code CBORMapper} or {@code SmileMapper}, makes the
+         * serializer produce that binary format rather than JSON.
          *
          * @param objectMapper an {@link ObjectMapper} used to serialize and parse the objects to JSON
          * @return the current Builder instance, for fluent interfacing
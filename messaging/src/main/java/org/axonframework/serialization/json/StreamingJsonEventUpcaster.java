@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.axonframework.serialization.upcasting.event.SingleEventUpcaster;
+import org.axonframework.serialization.upcasting.event.TypeScopedEventUpcaster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+
+/**
+ * Abstract implementation of a {@link SingleEventUpcaster} which upcasts the JSON payload of a single type and
+ * revision as a stream of tokens, rather than as a {@link JsonNode} tree. Implementations read the tokens of the
+ * original payload from a {@link JsonParser} and write the upcasted payload to a {@link JsonGenerator}, for example by
+ * copying most tokens as is through {@link JsonGenerator#copyCurrentEvent(JsonParser)}.
+ * <p>
+ * As the payload is never materialized as a tree, this upcaster is well suited for large payloads, such as the
+ * snapshots of big aggregates, for which building a tree would take many times the memory of the serialized form.
+ * The upcasted payload is handed on as an {@link InputStream}, which subsequent streaming upcasters and the {@link
+ * JacksonSerializer} consume without further copies.
+ * <p>
+ * The {@link ObjectMapper} provided on construction should be the one used by the serializer of the upcasted events,
+ * so that the parser and generator use the same (possibly binary) data format.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public abstract class StreamingJsonEventUpcaster extends SingleEventUpcaster implements TypeScopedEventUpcaster {
+
+    private final JsonFactory jsonFactory;
+    private final SerializedType expectedType;
+    private final SerializedType upcastedType;
+
+    /**
+     * Instantiate a {@link StreamingJsonEventUpcaster} upcasting payloads of the given {@code expectedType} into
+     * payloads of the given {@code upcastedType}, parsing and generating them with the factory of the given {@code
+     * objectMapper}.
+     *
+     * @param objectMapper the {@link ObjectMapper} whose factory creates the parser and generator
+     * @param expectedType the type and revision of the payloads this upcaster should react on
+     * @param upcastedType the type and revision of the upcasted payloads
+     */
+    protected StreamingJsonEventUpcaster(ObjectMapper objectMapper,
+                                         SerializedType expectedType,
+                                         SerializedType upcastedType) {
+        assertNonNull(objectMapper, "The ObjectMapper may not be null");
+        assertNonNull(expectedType, "The expected type may not be null");
+        assertNonNull(upcastedType, "The upcasted type may not be null");
+        this.jsonFactory = objectMapper.getFactory();
+        this.expectedType = expectedType;
+        this.upcastedType = upcastedType;
+    }
+
+    @Override
+    public Set<SerializedType> upcastableTypes() {
+        return Collections.singleton(expectedType);
+    }
+
+    @Override
+    protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+        SerializedType type = intermediateRepresentation.getType();
+        return Objects.equals(expectedType.getName(), type.getName())
+                && Objects.equals(expectedType.getRevision(), type.getRevision());
+    }
+
+    @Override
+    protected IntermediateEventRepresentation doUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+        return intermediateRepresentation.upcastPayload(upcastedType, InputStream.class, this::upcastPayload);
+    }
+
+    private InputStream upcastPayload(InputStream payload) {
+        ExposedByteArrayOutputStream output = new ExposedByteArrayOutputStream();
+        try (JsonParser parser = jsonFactory.createParser(payload);
+             JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            upcast(parser, generator);
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Unable to upcast payload of type [" + expectedType + "] to [" + upcastedType + "]", e
+            );
+        }
+        return output.toInputStream();
+    }
+
+    /**
+     * Upcast the payload read from the given {@code parser} by writing the upcasted payload to the given {@code
+     * generator}. The parser is positioned before the first token of the payload. Both the parser and generator are
+     * closed once this method returns.
+     *
+     * @param parser    the {@link JsonParser} to read the tokens of the original payload from
+     * @param generator the {@link JsonGenerator} to write the tokens of the upcasted payload to
+     * @throws IOException when reading from the parser or writing to the generator fails
+     */
+    protected abstract void upcast(JsonParser parser, JsonGenerator generator) throws IOException;
+
+    /**
+     * {@link ByteArrayOutputStream} which exposes the written bytes as an {@link InputStream} without copying them.
+     */
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -19,11 +19,15 @@
 import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.SimpleSerializedType;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 import static org.axonframework.common.BuilderUtils.assertNonEmpty;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.ReflectionUtils.methodsOf;
 
 /**
  * A {@link SingleEventUpcaster} implementation which allows for type upcasting only. This could be used if the event's
@@ -31,16 +35,22 @@
  * <p>
  * Note that this upcaster <b>should not</b> be used to change the semantic meaning of an event. Such a requirement
  * points towards a new event type instead of adjusting an existing one.
+ * <p>
+ * As a {@link TypeScopedEventUpcaster}, this upcaster declares the expected payload type and revision as its {@link
+ * #upcastableTypes() upcastable type}. If a subclass overrides {@link #isExpectedPayloadType(String)}, {@link
+ * #isExpectedRevision(String)} or {@link #canUpcast(IntermediateEventRepresentation)}, the upcastable types are no
+ * longer known and {@code null} is returned instead, unless the subclass overrides {@link #upcastableTypes()} as well.
  *
  * @author Steven van Beelen
  * @since 4.3
  */
-public class EventTypeUpcaster extends SingleEventUpcaster {
+public class EventTypeUpcaster extends SingleEventUpcaster implements TypeScopedEventUpcaster {
 
     private final String expectedPayloadType;
     private final String expectedRevision;
     private final String upcastedPayloadType;
     private final String upcastedRevision;
+    private final boolean typeMatchingOverridden;
 
     /**
      * Instantiate a {@link EventTypeUpcaster.Builder} which should upcast "from" the given {@code payloadType} and
@@ -86,6 +96,29 @@ public EventTypeUpcaster(String expectedPayloadType,
         this.expectedRevision = expectedRevision;
         this.upcastedPayloadType = upcastedPayloadType;
         this.upcastedRevision = upcastedRevision;
+        this.typeMatchingOverridden = overridesTypeMatching(getClass());
+    }
+
+    private static boolean overridesTypeMatching(Class<?> upcasterType) {
+        for (Method method : methodsOf(upcasterType)) {
+            if (EventTypeUpcaster.class.equals(method.getDeclaringClass())) {
+                return false;
+            }
+            if (method.getParameterCount() != 1) {
+                continue;
+            }
+            Class<?> parameterType = method.getParameterTypes()[0];
+            boolean typeMatchingMethod = "isExpectedPayloadType".equals(method.getName())
+                    || "isExpectedRevision".equals(method.getName());
+            if (typeMatchingMethod && String.class.equals(parameterType)) {
+                return true;
+            }
+            if ("canUpcast".equals(method.getName())
+                    && IntermediateEventRepresentation.class.equals(parameterType)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -94,6 +127,21 @@ protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresen
         return isExpectedPayloadType(serializedType.getName()) && isExpectedRevision(serializedType.getRevision());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns {@code null} if a subclass overrides {@link #isExpectedPayloadType(String)}, {@link
+     * #isExpectedRevision(String)} or {@link #canUpcast(IntermediateEventRepresentation)}, as the types matched by this
+     * upcaster are then unknown.
+     */
+    @Override
+    public Set<SerializedType> upcastableTypes() {
+        if (typeMatchingOverridden) {
+            return null;
+        }
+        return Collections.singleton(new SimpleSerializedType(expectedPayloadType, expectedRevision));
+    }
+
     /**
      * Check whether the given {@code payloadType} matches the outcome of {@code expectedPayloadType}.
      *
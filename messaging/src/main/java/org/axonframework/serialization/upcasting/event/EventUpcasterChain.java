@@ -16,21 +16,38 @@
 
 package org.axonframework.serialization.upcasting.event;
 
+import org.axonframework.serialization.CachingSupplier;
+import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.upcasting.GenericUpcasterChain;
+import org.axonframework.serialization.upcasting.Upcaster;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Upcaster chain used to upcast {@link IntermediateEventRepresentation event representations}.
  * <p/>
  * Upcasters expecting different serialized object types may be merged into a single chain, as long as the order of
  * related upcasters can be guaranteed.
+ * <p/>
+ * If all upcasters in the chain are {@link TypeScopedEventUpcaster TypeScopedEventUpcasters} that declare their
+ * upcastable types, the chain indexes them by the types and revisions they declare. Representations of a type that
+ * none of the upcasters declares are then passed on as is, without being offered to any of the upcasters. Other
+ * representations are offered to the first upcaster declaring their type and all upcasters following it, as an
+ * upcaster may change the type of a representation into one expected by a subsequent upcaster. Note that this builds
+ * a separate upcasting pipeline for every such representation.
  *
  * @author Rene de Waele
  * @since 3.0
  */
 public class EventUpcasterChain extends GenericUpcasterChain<IntermediateEventRepresentation> implements EventUpcaster {
 
+    private final Supplier<TypeIndex> typeIndex = CachingSupplier.of(() -> TypeIndex.of(getUpcasters()));
+
     /**
      * Initializes an upcaster chain from one or more upcasters.
      *
@@ -48,4 +65,83 @@ public EventUpcasterChain(EventUpcaster... upcasters) {
     public EventUpcasterChain(List<? extends EventUpcaster> upcasters) {
         super(upcasters);
     }
+
+    @Override
+    public Stream<IntermediateEventRepresentation> upcast(
+            Stream<IntermediateEventRepresentation> initialRepresentations
+    ) {
+        TypeIndex index = typeIndex.get();
+        if (!index.isComplete()) {
+            return super.upcast(initialRepresentations);
+        }
+        if (index.isEmpty()) {
+            return initialRepresentations;
+        }
+        return initialRepresentations.flatMap(representation -> {
+            int firstUpcaster = index.firstUpcasterOf(representation.getType());
+            return firstUpcaster < 0
+                    ? Stream.of(representation)
+                    : upcastFrom(firstUpcaster, Stream.of(representation));
+        });
+    }
+
+    private Stream<IntermediateEventRepresentation> upcastFrom(int firstUpcaster,
+                                                               Stream<IntermediateEventRepresentation> representations) {
+        List<? extends Upcaster<IntermediateEventRepresentation>> upcasters = getUpcasters();
+        Stream<IntermediateEventRepresentation> result = representations;
+        for (int i = firstUpcaster; i < upcasters.size(); i++) {
+            result = upcasters.get(i).upcast(result);
+        }
+        return result;
+    }
+
+    /**
+     * Index of the names and revisions of the types declared by the {@link TypeScopedEventUpcaster
+     * TypeScopedEventUpcasters} in this chain, referring to the position of the first upcaster in the chain declaring
+     * each type. The index is only complete if every upcaster in the chain declares its types.
+     */
+    private static class TypeIndex {
+
+        private final boolean complete;
+        private final Map<String, Map<String, Integer>> firstUpcasterByName;
+
+        private TypeIndex(boolean complete, Map<String, Map<String, Integer>> firstUpcasterByName) {
+            this.complete = complete;
+            this.firstUpcasterByName = firstUpcasterByName;
+        }
+
+        private static TypeIndex of(List<? extends Upcaster<IntermediateEventRepresentation>> upcasters) {
+            Map<String, Map<String, Integer>> firstUpcasterByName = new HashMap<>();
+            for (int i = 0; i < upcasters.size(); i++) {
+                Upcaster<IntermediateEventRepresentation> upcaster = upcasters.get(i);
+                Set<SerializedType> upcastableTypes = upcaster instanceof TypeScopedEventUpcaster
+                        ? ((TypeScopedEventUpcaster) upcaster).upcastableTypes()
+                        : null;
+                if (upcastableTypes == null) {
+                    return new TypeIndex(false, firstUpcasterByName);
+                }
+                for (SerializedType type : upcastableTypes) {
+                    firstUpcasterByName.computeIfAbsent(type.getName(), name -> new HashMap<>())
+                                       .putIfAbsent(type.getRevision(), i);
+                }
+            }
+            return new TypeIndex(true, firstUpcasterByName);
+        }
+
+        private boolean isComplete() {
+            return complete;
+        }
+
+        private boolean isEmpty() {
+            return firstUpcasterByName.isEmpty();
+        }
+
+        private int firstUpcasterOf(SerializedType type) {
+            Map<String, Integer> firstUpcasterByRevision = firstUpcasterByName.get(type.getName());
+            Integer firstUpcaster = firstUpcasterByRevision == null
+                    ? null
+                    : firstUpcasterByRevision.get(type.getRevision());
+            return firstUpcaster == null ? -1 : firstUpcaster;
+        }
+    }
 }
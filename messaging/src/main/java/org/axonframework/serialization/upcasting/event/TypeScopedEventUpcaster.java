@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.upcasting.event;
+
+import org.axonframework.serialization.SerializedType;
+
+import java.util.Set;
+
+/**
+ * An {@link EventUpcaster} that statically declares the {@link SerializedType types} of the event representations it
+ * is able to upcast. Representations of any other type are guaranteed to be passed through untouched, which allows an
+ * {@link EventUpcasterChain} to index its upcasters by type and revision and skip upcasting entirely for events that
+ * no upcaster in the chain is interested in.
+ * <p>
+ * This interface is typically combined with a {@link SingleEventUpcaster} or {@link EventMultiUpcaster}. Context aware
+ * upcasters should not implement it, as they may rely on seeing every entry in the stream.
+ *
+ * @author agent
+ * @since 4.6
+ */
+public interface TypeScopedEventUpcaster extends EventUpcaster {
+
+    /**
+     * Returns the {@link SerializedType types} of the event representations this upcaster may upcast. Both the name and
+     * the revision of a representation's type need to match one of the returned types for this upcaster to be
+     * invoked. A {@code null} revision matches representations without a revision.
+     * <p>
+     * An upcaster that is unable to tell which types it matches may return {@code null}. Any {@link
+     * EventUpcasterChain} containing it will then offer every representation to its upcasters.
+     *
+     * @return the types of the event representations this upcaster may upcast, or {@code null} if these are unknown
+     */
+    Set<SerializedType> upcastableTypes();
+}
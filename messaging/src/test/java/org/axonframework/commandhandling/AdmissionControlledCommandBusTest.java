@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link AdmissionControlledCommandBus}.
+ */
+class AdmissionControlledCommandBusTest {
+
+    private static final String HIGH_PRIORITY = "high";
+
+    private CommandBus delegate;
+    private List<Runnable> pendingCompletions;
+    private AdmissionControlledCommandBus testSubject;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(CommandBus.class);
+        pendingCompletions = new ArrayList<>();
+        doAnswer(invocation -> {
+            CommandMessage<Object> command = invocation.getArgument(0);
+            CommandCallback<Object, Object> callback = invocation.getArgument(1);
+            pendingCompletions.add(
+                    () -> callback.onResult(command, GenericCommandResultMessage.asCommandResultMessage("ok"))
+            );
+            return null;
+        }).when(delegate).dispatch(any(), any());
+        testSubject = AdmissionControlledCommandBus.builder()
+                                                   .delegate(delegate)
+                                                   .maxInFlight(2)
+                                                   .priorityCalculator(AdmissionControlledCommandBusTest::priority)
+                                                   .admissionLimit(10, 3)
+                                                   .build();
+    }
+
+    private static int priority(CommandMessage<?> command) {
+        return HIGH_PRIORITY.equals(command.getPayload()) ? 10 : 0;
+    }
+
+    @Test
+    void testCommandsAreRejectedWhenMaxInFlightIsReached() {
+        RecordingCallback callback = new RecordingCallback();
+
+        testSubject.dispatch(asCommandMessage("low"), callback);
+        testSubject.dispatch(asCommandMessage("low"), callback);
+        testSubject.dispatch(asCommandMessage("low"), callback);
+
+        verify(delegate, times(2)).dispatch(any(), any());
+        assertEquals(2, testSubject.inFlightCount());
+        assertEquals(1, callback.results.size());
+        assertTrue(callback.results.get(0).isExceptional());
+        assertTrue(callback.results.get(0).exceptionResult() instanceof CommandBusOverloadedException);
+    }
+
+    @Test
+    void testHighPriorityCommandsUseTheirOwnAdmissionLimit() {
+        RecordingCallback callback = new RecordingCallback();
+
+        testSubject.dispatch(asCommandMessage("low"), callback);
+        testSubject.dispatch(asCommandMessage("low"), callback);
+        testSubject.dispatch(asCommandMessage(HIGH_PRIORITY), callback);
+        testSubject.dispatch(asCommandMessage(HIGH_PRIORITY), callback);
+
+        verify(delegate, times(3)).dispatch(any(), any());
+        assertEquals(3, testSubject.inFlightCount());
+        assertEquals(1, callback.results.size());
+        assertTrue(callback.results.get(0).exceptionResult() instanceof CommandBusOverloadedException);
+    }
+
+    @Test
+    void testCapacityIsReleasedWhenCommandCompletes() {
+        RecordingCallback callback = new RecordingCallback();
+
+        testSubject.dispatch(asCommandMessage("low"), callback);
+        testSubject.dispatch(asCommandMessage("low"), callback);
+        pendingCompletions.get(0).run();
+        testSubject.dispatch(asCommandMessage("low"), callback);
+
+        verify(delegate, times(3)).dispatch(any(), any());
+        assertEquals(2, testSubject.inFlightCount());
+        assertEquals(1, callback.results.size());
+        assertFalse(callback.results.get(0).isExceptional());
+    }
+
+    @Test
+    void testCapacityIsReleasedWhenDelegateThrowsException() {
+        doThrow(new IllegalStateException("dispatch failed")).when(delegate).dispatch(any(), any());
+
+        assertThrows(IllegalStateException.class,
+                     () -> testSubject.dispatch(asCommandMessage("low"), new RecordingCallback()));
+
+        assertEquals(0, testSubject.inFlightCount());
+    }
+
+    @Test
+    void testCommandsWithoutCallbackAreTracked() {
+        testSubject.dispatch(asCommandMessage("low"));
+
+        verify(delegate).dispatch(any(), any());
+        assertEquals(1, testSubject.inFlightCount());
+        pendingCompletions.get(0).run();
+        assertEquals(0, testSubject.inFlightCount());
+    }
+
+    @Test
+    void testBuildWithoutMaxInFlightThrowsAxonConfigurationException() {
+        AdmissionControlledCommandBus.Builder builder = AdmissionControlledCommandBus.builder().delegate(delegate);
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+
+    private static class RecordingCallback implements CommandCallback<Object, Object> {
+
+        private final List<CommandResultMessage<?>> results = new ArrayList<>();
+
+        @Override
+        public void onResult(CommandMessage<?> commandMessage, CommandResultMessage<?> commandResultMessage) {
+            results.add(commandResultMessage);
+        }
+    }
+}
@@ -210,6 +210,98 @@ void testDispatchFailingCommandWithCallbackAndMessageMonitor() throws Exception
         assertEquals(Exception.class, commandResultMessageCaptor.getValue().exceptionResult().getClass());
     }
 
+    @Test
+    void testDispatchToLocalMemberUsesLocalSegmentWhenShortCutIsEnabled() throws Exception {
+        CommandBus localSegment = mock(CommandBus.class);
+        doAnswer(invocation -> {
+            CommandCallback<Object, Object> callback = invocation.getArgument(1);
+            callback.onResult(invocation.getArgument(0), new GenericCommandResultMessage<>((Object) null));
+            return null;
+        }).when(localSegment).dispatch(any(), any());
+        when(mockConnector.localSegment()).thenReturn(Optional.of(localSegment));
+        when(mockMember.local()).thenReturn(true);
+        MessageMonitor<? super CommandMessage<?>> localDispatchMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback localMonitorCallback = mock(MessageMonitor.MonitorCallback.class);
+        when(localDispatchMonitor.onMessageIngested(any())).thenReturn(localMonitorCallback);
+        MessageMonitor<? super CommandMessage<?>> remoteDispatchMonitor = mock(MessageMonitor.class);
+        testSubject = DistributedCommandBus.builder()
+                                           .commandRouter(mockCommandRouter)
+                                           .connector(mockConnector)
+                                           .messageMonitor(mockMessageMonitor)
+                                           .localDispatchMonitor(localDispatchMonitor)
+                                           .remoteDispatchMonitor(remoteDispatchMonitor)
+                                           .localSegmentShortCut(true)
+                                           .build();
+        CommandMessage<Object> testCommandMessage = GenericCommandMessage.asCommandMessage("test");
+
+        CommandCallback<Object, Object> mockCallback = mock(CommandCallback.class);
+        testSubject.dispatch(testCommandMessage, mockCallback);
+
+        verify(localSegment).dispatch(eq(testCommandMessage), any(CommandCallback.class));
+        verify(mockConnector, never()).send(any(), any(), any());
+        verify(mockMonitorCallback).reportSuccess();
+        verify(localMonitorCallback).reportSuccess();
+        verifyNoInteractions(remoteDispatchMonitor);
+        verify(mockCallback).onResult(eq(testCommandMessage), any());
+    }
+
+    @Test
+    void testDispatchToLocalMemberUsesConnectorWhenShortCutIsDisabled() throws Exception {
+        MessageMonitor<? super CommandMessage<?>> remoteDispatchMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback remoteMonitorCallback = mock(MessageMonitor.MonitorCallback.class);
+        when(remoteDispatchMonitor.onMessageIngested(any())).thenReturn(remoteMonitorCallback);
+        testSubject = DistributedCommandBus.builder()
+                                           .commandRouter(mockCommandRouter)
+                                           .connector(mockConnector)
+                                           .messageMonitor(mockMessageMonitor)
+                                           .remoteDispatchMonitor(remoteDispatchMonitor)
+                                           .build();
+        CommandMessage<Object> testCommandMessage = GenericCommandMessage.asCommandMessage("test");
+
+        testSubject.dispatch(testCommandMessage, NoOpCallback.INSTANCE);
+
+        verify(mockConnector).send(eq(mockMember), eq(testCommandMessage), any(CommandCallback.class));
+        verify(mockConnector, never()).localSegment();
+        verify(remoteMonitorCallback).reportSuccess();
+    }
+
+    @Test
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    void testDispatchWithoutCallbackToLocalMemberUsesLocalSegmentWhenShortCutIsEnabled() throws Exception {
+        CommandBus localSegment = mock(CommandBus.class);
+        when(mockConnector.localSegment()).thenReturn(Optional.of(localSegment));
+        when(mockMember.local()).thenReturn(true);
+        testSubject = DistributedCommandBus.builder()
+                                           .commandRouter(mockCommandRouter)
+                                           .connector(mockConnector)
+                                           .localSegmentShortCut(true)
+                                           .build();
+        CommandMessage<Object> testCommandMessage = GenericCommandMessage.asCommandMessage("test");
+
+        testSubject.dispatch(testCommandMessage);
+
+        verify(localSegment).dispatch(testCommandMessage);
+        verify(mockConnector, never()).send(any(), any());
+    }
+
+    @Test
+    void testDispatchToRemoteMemberUsesConnectorWhenShortCutIsEnabled() throws Exception {
+        when(mockMember.local()).thenReturn(false);
+        testSubject = DistributedCommandBus.builder()
+                                           .commandRouter(mockCommandRouter)
+                                           .connector(mockConnector)
+                                           .messageMonitor(mockMessageMonitor)
+                                           .localSegmentShortCut(true)
+                                           .build();
+        CommandMessage<Object> testCommandMessage = GenericCommandMessage.asCommandMessage("test");
+
+        testSubject.dispatch(testCommandMessage, NoOpCallback.INSTANCE);
+
+        verify(mockConnector).send(eq(mockMember), eq(testCommandMessage), any(CommandCallback.class));
+        verify(mockConnector, never()).localSegment();
+        verify(mockMonitorCallback).reportSuccess();
+    }
+
     @Test
     @MockitoSettings(strictness = Strictness.LENIENT)
     void testLocalSegmentReturnsTheCommandBusConnectorsLocalSegmentResult() {
@@ -32,7 +32,10 @@
 import org.mockito.*;
 import org.mockito.invocation.*;
 import org.mockito.stubbing.*;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -311,6 +314,68 @@ public String getPayload() {
         assertEquals("Faking serialization problem", actual.exceptionally(Throwable::getMessage).get());
     }
 
+    @Test
+    void testSendStreamingRelaysPublisherResultWithBackPressure() {
+        doAnswer(i -> {
+            CommandCallback<Object, Object> callback = i.getArgument(1);
+            callback.onResult(i.getArgument(0), new GenericCommandResultMessage<>(Flux.range(0, 100)));
+            return null;
+        }).when(mockCommandBus).dispatch(any(), any());
+
+        StepVerifier.create(testSubject.<Integer>sendStreaming("command"), 2)
+                    .expectNext(0, 1)
+                    .thenRequest(1)
+                    .expectNext(2)
+                    .thenCancel()
+                    .verify();
+    }
+
+    @Test
+    void testSendStreamingEmitsIterableResultElementByElement() {
+        doAnswer(i -> {
+            CommandCallback<Object, Object> callback = i.getArgument(1);
+            callback.onResult(i.getArgument(0), new GenericCommandResultMessage<>(Arrays.asList("a", "b")));
+            return null;
+        }).when(mockCommandBus).dispatch(any(), any());
+
+        StepVerifier.create(testSubject.<String>sendStreaming("command"))
+                    .expectNext("a", "b")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testSendStreamingEmitsSingleResult() {
+        doAnswer(i -> {
+            CommandCallback<Object, Object> callback = i.getArgument(1);
+            callback.onResult(i.getArgument(0), new GenericCommandResultMessage<>("result"));
+            return null;
+        }).when(mockCommandBus).dispatch(any(), any());
+
+        StepVerifier.create(testSubject.<String>sendStreaming("command"))
+                    .expectNext("result")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testSendStreamingSignalsCommandExecutionFailure() {
+        doAnswer(i -> {
+            CommandCallback<Object, Object> callback = i.getArgument(1);
+            callback.onResult(i.getArgument(0), asCommandResultMessage(new MockException()));
+            return null;
+        }).when(mockCommandBus).dispatch(any(), any());
+
+        StepVerifier.create(testSubject.sendStreaming("command"))
+                    .expectError(MockException.class)
+                    .verify();
+    }
+
+    @Test
+    void testSendStreamingDispatchesCommandOnSubscription() {
+        testSubject.sendStreaming("command");
+
+        verify(mockCommandBus, never()).dispatch(any(), any());
+    }
+
     private static class RescheduleCommand implements Answer<Boolean> {
 
         @Override
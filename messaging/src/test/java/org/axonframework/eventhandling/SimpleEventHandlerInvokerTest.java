@@ -21,6 +21,7 @@
 
 import java.util.List;
 
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
 import static org.axonframework.utils.EventTestUtils.createEvent;
 import static org.axonframework.utils.EventTestUtils.createEvents;
 import static org.mockito.Mockito.*;
@@ -93,4 +94,31 @@ void testPerformResetWithResetContext() {
         verify(mockHandler1).prepareReset(eq(resetContext));
         verify(mockHandler2).prepareReset(eq(resetContext));
     }
+
+    @Test
+    void testAnnotatedEventHandlersAreOnlyInvokedForPayloadTypesTheyCanHandle() throws Exception {
+        AnnotationEventHandlerAdapter stringHandler =
+                spy(new AnnotationEventHandlerAdapter(new StringEventHandler()));
+        testSubject = SimpleEventHandlerInvoker.builder()
+                                               .eventHandlers(stringHandler, mockHandler1)
+                                               .build();
+        EventMessage<?> integerEvent = asEventMessage(42);
+        EventMessage<?> stringEvent = asEventMessage("event");
+
+        testSubject.handle(integerEvent, Segment.ROOT_SEGMENT);
+        testSubject.handle(stringEvent, Segment.ROOT_SEGMENT);
+
+        verify(stringHandler, never()).handle(integerEvent);
+        verify(stringHandler).handle(stringEvent);
+        verify(mockHandler1).handle(integerEvent);
+        verify(mockHandler1).handle(stringEvent);
+    }
+
+    @SuppressWarnings("unused")
+    private static class StringEventHandler {
+
+        @EventHandler
+        public void on(String event) {
+        }
+    }
 }
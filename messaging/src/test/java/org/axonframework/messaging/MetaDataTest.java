@@ -18,8 +18,15 @@
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class MetaDataTest {
 
@@ -32,4 +39,124 @@ void testAddNullValueToMetaData() {
         assertNull(metaData.get("nullkey"));
         assertEquals("value", metaData.get("otherkey"));
     }
+
+    @Test
+    void testSmallAndLargeMetaDataBehaveAsRegularMaps() {
+        for (int size : new int[]{1, 8, 9, 20}) {
+            Map<String, Object> entries = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                entries.put("key" + i, i);
+            }
+
+            MetaData metaData = MetaData.from(entries);
+
+            assertEquals(entries, metaData);
+            assertEquals(metaData, entries);
+            assertEquals(entries.hashCode(), metaData.hashCode());
+            assertEquals(entries.keySet(), metaData.keySet());
+            assertEquals(size - 1, metaData.get("key" + (size - 1)));
+            assertTrue(metaData.containsKey("key0"));
+            assertFalse(metaData.containsKey("key" + size));
+            assertNull(metaData.get("key" + size));
+        }
+    }
+
+    @Test
+    void testMergingKeepsMapContractAcrossManyMerges() {
+        Map<String, Object> expected = new HashMap<>();
+        MetaData metaData = MetaData.emptyInstance();
+        for (int i = 0; i < 30; i++) {
+            Map<String, Object> additionalEntries = new HashMap<>();
+            additionalEntries.put("key" + i, i);
+            additionalEntries.put("key" + (i / 2), "overridden" + i);
+            expected.putAll(additionalEntries);
+            if (i % 2 == 0) {
+                metaData = metaData.mergedWith(additionalEntries);
+            } else {
+                metaData = metaData.and("key" + i, i).and("key" + (i / 2), "overridden" + i);
+            }
+
+            assertEquals(expected, metaData);
+            assertEquals(metaData, expected);
+            assertEquals(expected.hashCode(), metaData.hashCode());
+            assertEquals(expected.size(), metaData.size());
+            assertEquals(expected.size(), metaData.entrySet().size());
+            assertEquals(expected.keySet(), metaData.keySet());
+        }
+        assertEquals("overridden29", metaData.get("key14"));
+        assertFalse(metaData.containsKey("key30"));
+    }
+
+    @Test
+    void testMergingDoesNotAffectOriginalMetaData() {
+        Map<String, Object> entries = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            entries.put("key" + i, i);
+        }
+        MetaData original = MetaData.from(entries);
+
+        MetaData merged = original.and("key0", "changed").andIfNotPresent("key1", () -> "ignored")
+                                  .andIfNotPresent("extra", () -> "added");
+
+        assertEquals(entries, original);
+        assertEquals("changed", merged.get("key0"));
+        assertEquals(1, merged.get("key1"));
+        assertEquals("added", merged.get("extra"));
+        assertEquals(11, merged.size());
+    }
+
+    @Test
+    void testMetaDataKeysAreInterned() {
+        MetaData first = MetaData.with(new String("correlationId"), "first");
+        MetaData second = MetaData.with(new String("correlationId"), "second");
+
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+    }
+
+    @Test
+    void testKeysAreStillInternedAfterManyDistinctKeys() {
+        for (int i = 0; i < 10_000; i++) {
+            MetaData.with("distinctKey-" + i, i);
+        }
+
+        MetaData first = MetaData.with(new String("lateKey"), "first");
+        MetaData second = MetaData.with(new String("lateKey"), "second");
+
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+    }
+
+    @Test
+    void testRepeatedlyMergingIntoOtherMetaDataDoesNotNestOverlaysWithoutLimit() {
+        Map<String, Object> entries = new HashMap<>();
+        for (int i = 0; i < 16; i++) {
+            entries.put("key" + i, i);
+        }
+        MetaData accumulated = MetaData.from(entries);
+
+        for (int i = 0; i < 100_000; i++) {
+            accumulated = MetaData.from(Collections.singletonMap("base", i)).mergedWith(accumulated);
+        }
+
+        assertNull(accumulated.get("missing"));
+        assertFalse(accumulated.containsKey("missing"));
+        assertEquals(15, accumulated.get("key15"));
+    }
+
+    @Test
+    void testJavaSerializationRoundTrip() throws Exception {
+        MetaData metaData = MetaData.with("key", "value").and("nullValue", null);
+
+        assertEquals(metaData, serializeAndDeserialize(metaData));
+        assertSame(MetaData.emptyInstance(), serializeAndDeserialize(MetaData.emptyInstance()));
+    }
+
+    private static Object serializeAndDeserialize(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
 }
@@ -26,12 +26,15 @@
 import org.junit.jupiter.api.*;
 import org.mockito.internal.util.collections.*;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Executable;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -160,6 +163,81 @@ void testGetAllInspectedTypes() {
         expectedInspectedTypes.forEach(expectedType -> assertTrue(resultInspectedTypes.contains(expectedType)));
     }
 
+    @Test
+    void testDeclaredHandlersAreReusedWhenInspectingTheSameTypeAgain() {
+        CountingHandlerDefinition handlerDefinition = new CountingHandlerDefinition();
+        AnnotatedHandlerInspector<B> first =
+                AnnotatedHandlerInspector.inspectType(B.class, parameterResolverFactory, handlerDefinition);
+        int createdHandlers = handlerDefinition.invocations.get();
+        assertTrue(createdHandlers > 0);
+
+        AnnotatedHandlerInspector<C> second =
+                AnnotatedHandlerInspector.inspectType(C.class, parameterResolverFactory, handlerDefinition);
+        int expectedForC = C.class.getDeclaredMethods().length + C.class.getDeclaredConstructors().length;
+        assertEquals(createdHandlers + expectedForC, handlerDefinition.invocations.get());
+
+        AnnotatedHandlerInspector<B> third =
+                AnnotatedHandlerInspector.inspectType(B.class, parameterResolverFactory, handlerDefinition);
+        assertEquals(createdHandlers + expectedForC, handlerDefinition.invocations.get());
+        assertEquals(first.getAllHandlers(), third.getAllHandlers());
+        assertSame(first.getHandlers(A.class).findFirst().orElse(null),
+                   second.getHandlers(A.class).findFirst().orElse(null));
+    }
+
+    @Test
+    void testDeclaredHandlersAreNotReusedForDifferentHandlerDefinitions() {
+        CountingHandlerDefinition firstDefinition = new CountingHandlerDefinition();
+        CountingHandlerDefinition secondDefinition = new CountingHandlerDefinition();
+
+        AnnotatedHandlerInspector.inspectType(A.class, parameterResolverFactory, firstDefinition);
+        AnnotatedHandlerInspector.inspectType(A.class, parameterResolverFactory, secondDefinition);
+
+        assertTrue(firstDefinition.invocations.get() > 0);
+        assertEquals(firstDefinition.invocations.get(), secondDefinition.invocations.get());
+    }
+
+    @Test
+    void testDeclaredHandlerCacheDoesNotRetainParameterResolverFactoryAndHandlerDefinition()
+            throws InterruptedException {
+        ParameterResolverFactory factory = new MultiParameterResolverFactory(parameterResolverFactory);
+        CountingHandlerDefinition handlerDefinition = new CountingHandlerDefinition();
+        AnnotatedHandlerInspector<B> inspector =
+                AnnotatedHandlerInspector.inspectType(B.class, factory, handlerDefinition);
+        assertTrue(inspector.getHandlers(B.class).findAny().isPresent());
+        WeakReference<ParameterResolverFactory> factoryReference = new WeakReference<>(factory);
+        WeakReference<HandlerDefinition> handlerDefinitionReference = new WeakReference<>(handlerDefinition);
+        WeakReference<AnnotatedHandlerInspector<B>> inspectorReference = new WeakReference<>(inspector);
+        //noinspection UnusedAssignment
+        factory = null;
+        //noinspection UnusedAssignment
+        handlerDefinition = null;
+        //noinspection UnusedAssignment
+        inspector = null;
+
+        for (int i = 0; i < 100 && (factoryReference.get() != null || handlerDefinitionReference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(inspectorReference.get());
+        assertNull(factoryReference.get());
+        assertNull(handlerDefinitionReference.get());
+    }
+
+    private static class CountingHandlerDefinition implements HandlerDefinition {
+
+        private final HandlerDefinition delegate = ClasspathHandlerDefinition.forClass(A.class);
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public <T> Optional<MessageHandlingMember<T>> createHandler(Class<T> declaringType,
+                                                                    Executable executable,
+                                                                    ParameterResolverFactory parameterResolverFactory) {
+            invocations.incrementAndGet();
+            return delegate.createHandler(declaringType, executable, parameterResolverFactory);
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class pA {
 
@@ -4,12 +4,18 @@
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.eventhandling.EventHandler;
 import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.messaging.HandlerAttributes;
+import org.axonframework.messaging.Message;
+import org.axonframework.utils.MockException;
 import org.junit.jupiter.api.*;
 
+import java.lang.reflect.Executable;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class validating the {@link AnnotatedMessageHandlingMember}.
@@ -54,6 +60,184 @@ void testAttributeReturnsNonEmptyOptionalForMatchingAttributeKey() {
         assertEquals(Object.class, resultPayloadType.get());
     }
 
+    @Test
+    void testReflectionIsTheDefaultInvocationStrategy() {
+        assertEquals(HandlerInvocationStrategy.REFLECTION, testSubject.invocationStrategy());
+    }
+
+    @Test
+    void testDefinitionCreatesHandlersInvokedThroughMethodHandles() throws Exception {
+        AnnotatedMessageHandlingMemberDefinition definition =
+                new AnnotatedMessageHandlingMemberDefinition(HandlerInvocationStrategy.METHOD_HANDLE);
+
+        Optional<MessageHandlingMember<AnnotatedHandler>> result = definition.createHandler(
+                AnnotatedHandler.class,
+                AnnotatedHandler.class.getMethod("handlingMethod", String.class),
+                ClasspathParameterResolverFactory.forClass(AnnotatedHandler.class)
+        );
+
+        assertTrue(result.isPresent());
+        assertTrue(result.get() instanceof AnnotatedMessageHandlingMember);
+        //noinspection unchecked
+        assertEquals(HandlerInvocationStrategy.METHOD_HANDLE,
+                     ((AnnotatedMessageHandlingMember<AnnotatedHandler>) result.get()).invocationStrategy());
+    }
+
+    @Test
+    void testMethodHandleInvocationInvokesPrivateHandlerMethod() throws Exception {
+        AnnotatedMessageHandlingMember<MethodHandleHandler> member =
+                methodHandleMember(MethodHandleHandler.class.getDeclaredMethod("handle", String.class, Long.class));
+
+        Object result = member.handle(GenericEventMessage.asEventMessage("event"), new MethodHandleHandler());
+
+        assertEquals(HandlerInvocationStrategy.METHOD_HANDLE, member.invocationStrategy());
+        assertEquals("event-42", result);
+    }
+
+    @Test
+    void testMethodHandleInvocationReturnsNullForVoidMethod() throws Exception {
+        MethodHandleHandler target = new MethodHandleHandler();
+        AnnotatedMessageHandlingMember<MethodHandleHandler> member =
+                methodHandleMember(MethodHandleHandler.class.getDeclaredMethod("handleVoid", String.class));
+
+        assertNull(member.handle(GenericEventMessage.asEventMessage("event"), target));
+        assertEquals("event", target.lastEvent);
+    }
+
+    @Test
+    void testMethodHandleInvocationSpreadsParametersForLargeParameterCounts() throws Exception {
+        AnnotatedMessageHandlingMember<MethodHandleHandler> member = methodHandleMember(
+                MethodHandleHandler.class.getDeclaredMethod(
+                        "handleMany", String.class, Long.class, Long.class, Long.class, Long.class, Long.class
+                )
+        );
+
+        Object result = member.handle(GenericEventMessage.asEventMessage("event"), new MethodHandleHandler());
+
+        assertEquals(HandlerInvocationStrategy.METHOD_HANDLE, member.invocationStrategy());
+        assertEquals("event-210", result);
+    }
+
+    @Test
+    void testMethodHandleInvocationRethrowsHandlerException() throws Exception {
+        AnnotatedMessageHandlingMember<MethodHandleHandler> member =
+                methodHandleMember(MethodHandleHandler.class.getDeclaredMethod("handleFailing", String.class));
+
+        assertThrows(MockException.class,
+                     () -> member.handle(GenericEventMessage.asEventMessage("event"), new MethodHandleHandler()));
+    }
+
+    @Test
+    void testMethodHandleInvocationInvokesConstructor() throws Exception {
+        AnnotatedMessageHandlingMember<MethodHandleHandler> member =
+                methodHandleMember(MethodHandleHandler.class.getDeclaredConstructor(String.class));
+
+        Object result = member.handle(GenericEventMessage.asEventMessage("event"), null);
+
+        assertEquals(HandlerInvocationStrategy.METHOD_HANDLE, member.invocationStrategy());
+        assertTrue(result instanceof MethodHandleHandler);
+        assertEquals("event", ((MethodHandleHandler) result).lastEvent);
+    }
+
+    @Test
+    void testConstantParameterResolversAreNotMatchedAndResolvedOnce() throws Exception {
+        ParameterResolver<?> constantResolver = mock(ParameterResolver.class);
+        when(constantResolver.isConstant()).thenReturn(true);
+        doReturn(42L).when(constantResolver).resolveParameterValue(any());
+        doReturn(Object.class).when(constantResolver).supportedPayloadType();
+        ParameterResolver<?> payloadResolver = spy(new PayloadParameterResolver(String.class));
+        ParameterResolverFactory parameterResolverFactory =
+                (e, parameters, index) -> index == 0 ? payloadResolver : constantResolver;
+        AnnotatedMessageHandlingMember<MethodHandleHandler> member = new AnnotatedMessageHandlingMember<>(
+                MethodHandleHandler.class.getDeclaredMethod("handle", String.class, Long.class),
+                Message.class,
+                String.class,
+                parameterResolverFactory
+        );
+        MethodHandleHandler target = new MethodHandleHandler();
+
+        assertTrue(member.canHandle(GenericEventMessage.asEventMessage("first")));
+        assertEquals("first-42", member.handle(GenericEventMessage.asEventMessage("first"), target));
+        assertTrue(member.canHandle(GenericEventMessage.asEventMessage("second")));
+        assertEquals("second-42", member.handle(GenericEventMessage.asEventMessage("second"), target));
+
+        verify(constantResolver, never()).matches(any());
+        verify(constantResolver, times(1)).resolveParameterValue(any());
+        verify(payloadResolver, times(2)).matches(any());
+        verify(payloadResolver, times(2)).resolveParameterValue(any());
+    }
+
+    @Test
+    void testFixedValueParameterResolverSubclassIsMatchedAndResolvedForEveryMessage() throws Exception {
+        AtomicLong counter = new AtomicLong();
+        FixedValueParameterResolver<Long> countingResolver = new FixedValueParameterResolver<Long>(0L) {
+            @Override
+            public Long resolveParameterValue(Message message) {
+                return counter.incrementAndGet();
+            }
+
+            @Override
+            public boolean matches(Message message) {
+                return !"rejected".equals(message.getPayload());
+            }
+        };
+        ParameterResolverFactory parameterResolverFactory = (e, parameters, index) -> index == 0
+                ? new PayloadParameterResolver(String.class)
+                : countingResolver;
+        AnnotatedMessageHandlingMember<MethodHandleHandler> member = new AnnotatedMessageHandlingMember<>(
+                MethodHandleHandler.class.getDeclaredMethod("handle", String.class, Long.class),
+                Message.class,
+                String.class,
+                parameterResolverFactory
+        );
+        MethodHandleHandler target = new MethodHandleHandler();
+
+        assertFalse(countingResolver.isConstant());
+        assertFalse(member.canHandle(GenericEventMessage.asEventMessage("rejected")));
+        assertEquals("first-1", member.handle(GenericEventMessage.asEventMessage("first"), target));
+        assertEquals("second-2", member.handle(GenericEventMessage.asEventMessage("second"), target));
+    }
+
+    private static AnnotatedMessageHandlingMember<MethodHandleHandler> methodHandleMember(Executable executable) {
+        ParameterResolverFactory parameterResolverFactory = (e, parameters, index) -> index == 0
+                ? new PayloadParameterResolver(String.class)
+                : new FixedValueParameterResolver<>(42L);
+        return new AnnotatedMessageHandlingMember<>(executable,
+                                                    Message.class,
+                                                    String.class,
+                                                    parameterResolverFactory,
+                                                    HandlerInvocationStrategy.METHOD_HANDLE);
+    }
+
+    @SuppressWarnings("unused")
+    private static class MethodHandleHandler {
+
+        private String lastEvent;
+
+        private MethodHandleHandler() {
+        }
+
+        private MethodHandleHandler(String event) {
+            this.lastEvent = event;
+        }
+
+        private String handle(String event, Long value) {
+            return event + "-" + value;
+        }
+
+        private void handleVoid(String event) {
+            this.lastEvent = event;
+        }
+
+        private String handleMany(String event, Long first, Long second, Long third, Long fourth, Long fifth) {
+            return event + "-" + (first + second + third + fourth + fifth);
+        }
+
+        private String handleFailing(String event) {
+            throw new MockException("Simulating handler failure");
+        }
+    }
+
     @SuppressWarnings("unused")
     private static class AnnotatedHandler {
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.responsetypes;
+
+import org.junit.jupiter.api.*;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test all possible permutations of Query Handler return types through the {@link PublisherResponseType}. To that end,
+ * leveraging the  {@link AbstractResponseTypeTest} to cover all usual suspects between the different
+ * {@link ResponseType} implementations.
+ */
+class PublisherResponseTypeTest
+        extends AbstractResponseTypeTest<Publisher<AbstractResponseTypeTest.QueryResponse>> {
+
+    PublisherResponseTypeTest() {
+        super(new PublisherResponseType<>(QueryResponse.class));
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsTheSame() throws NoSuchMethodException {
+        testMatches("someQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsSubTypeOfProvidedType() throws NoSuchMethodException {
+        testMatches("someSubTypedQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsFalseIfResponseTypeIsSuperTypeOfProvidedType() throws NoSuchMethodException {
+        testMatches("someSuperTypedQuery", DOES_NOT_MATCH);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsArrayOfProvidedType() throws NoSuchMethodException {
+        testMatches("someArrayQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsListOfProvidedType() throws NoSuchMethodException {
+        testMatches("someListQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsFalseIfResponseTypeIsListOfSuperType() throws NoSuchMethodException {
+        testMatches("someSuperListQuery", DOES_NOT_MATCH);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsStreamOfProvidedType() throws NoSuchMethodException {
+        testMatches("someStreamQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsFutureOfProvidedType() throws NoSuchMethodException {
+        testMatches("someFutureQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsFluxOfProvidedType() throws NoSuchMethodException {
+        testMatches("someFluxQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsPublisherOfSubType() throws NoSuchMethodException {
+        testMatches("someSubTypedPublisherQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsFalseIfResponseTypeIsFluxOfSuperType() throws NoSuchMethodException {
+        testMatches("someSuperTypedFluxQuery", DOES_NOT_MATCH);
+    }
+
+    @Test
+    void testConvertReturnsPublisherAsIs() {
+        Flux<QueryResponse> testResponse = Flux.just(new QueryResponse());
+
+        assertSame(testResponse, testSubject.convert(testResponse));
+    }
+
+    @Test
+    void testConvertEmitsElementsOfList() {
+        QueryResponse first = new QueryResponse();
+        QueryResponse second = new QueryResponse();
+
+        StepVerifier.create(testSubject.convert(Arrays.asList(first, second)))
+                    .expectNext(first, second)
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConvertEmitsElementsOfStreamOnDemand() {
+        QueryResponse first = new QueryResponse();
+        QueryResponse second = new QueryResponse();
+
+        StepVerifier.create(testSubject.convert(Stream.of(first, second)), 1)
+                    .expectNext(first)
+                    .thenRequest(1)
+                    .expectNext(second)
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConvertEmitsElementsOfArray() {
+        QueryResponse first = new QueryResponse();
+
+        StepVerifier.create(testSubject.convert(new QueryResponse[]{first}))
+                    .expectNext(first)
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConvertEmitsSingleInstance() {
+        QueryResponse testResponse = new QueryResponse();
+
+        StepVerifier.create(testSubject.convert(testResponse))
+                    .expectNext(testResponse)
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConvertReturnsEmptyPublisherForNullResponse() {
+        StepVerifier.create(testSubject.convert(null))
+                    .verifyComplete();
+    }
+
+    @SuppressWarnings("unused")
+    public Flux<QueryResponse> someFluxQuery() {
+        return Flux.just(new QueryResponse());
+    }
+
+    @SuppressWarnings("unused")
+    public Publisher<SubTypedQueryResponse> someSubTypedPublisherQuery() {
+        return Mono.just(new SubTypedQueryResponse());
+    }
+
+    @SuppressWarnings("unused")
+    public Flux<Object> someSuperTypedFluxQuery() {
+        return Flux.just(new QueryResponse());
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import net.sf.ehcache.CacheManager;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.caching.EhCacheAdapter;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.singletonMap;
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests validating the {@link CachingQueryBus}.
+ */
+class CachingQueryBusTest {
+
+    private CacheManager cacheManager;
+    private Cache cache;
+    private SimpleQueryBus delegate;
+    private AtomicInteger handlerInvocations;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        net.sf.ehcache.Cache ehCache = new net.sf.ehcache.Cache("test", 100, false, false, 10, 10);
+        cacheManager = CacheManager.create();
+        cacheManager.addCache(ehCache);
+        cache = new EhCacheAdapter(ehCache);
+
+        delegate = SimpleQueryBus.builder().build();
+        handlerInvocations = new AtomicInteger();
+        delegate.subscribe("greeting", String.class, query -> "Hello " + handlerInvocations.incrementAndGet());
+        delegate.subscribe("farewell", String.class, query -> "Bye " + handlerInvocations.incrementAndGet());
+        delegate.subscribe("failing", String.class, query -> {
+            handlerInvocations.incrementAndGet();
+            throw new IllegalStateException("Failing on purpose");
+        });
+        now = Instant.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    private CachingQueryBus.Builder testSubjectBuilder() {
+        return CachingQueryBus.builder()
+                              .delegate(delegate)
+                              .cache(cache)
+                              .clock(new Clock() {
+                                  @Override
+                                  public ZoneOffset getZone() {
+                                      return ZoneOffset.UTC;
+                                  }
+
+                                  @Override
+                                  public Clock withZone(ZoneId zone) {
+                                      return this;
+                                  }
+
+                                  @Override
+                                  public Instant instant() {
+                                      return now;
+                                  }
+                              });
+    }
+
+    private static QueryMessage<String, String> query(String queryName, String payload) {
+        return new GenericQueryMessage<>(payload, queryName, ResponseTypes.instanceOf(String.class));
+    }
+
+    @Test
+    void testRepeatedQueryIsAnsweredFromCache() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().timeToLive("greeting", Duration.ofMinutes(1)).build();
+
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Framework")).get().getPayload());
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testQueriesWithDifferentMetaDataDoNotShareCachedResponses() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().timeToLive("greeting", Duration.ofMinutes(1)).build();
+        QueryMessage<String, String> aliceQuery = query("greeting", "Axon").andMetaData(singletonMap("user", "alice"));
+        QueryMessage<String, String> bobQuery = query("greeting", "Axon").andMetaData(singletonMap("user", "bob"));
+
+        assertEquals("Hello 1", testSubject.query(aliceQuery).get().getPayload());
+        assertEquals("Hello 2", testSubject.query(bobQuery).get().getPayload());
+        assertEquals("Hello 1", testSubject.query(aliceQuery).get().getPayload());
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testCacheKeyIsResolvedFromTheInterceptedQuery() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().timeToLive("greeting", Duration.ofMinutes(1)).build();
+        AtomicReference<String> currentUser = new AtomicReference<>("alice");
+        testSubject.registerDispatchInterceptor(
+                messages -> (index, query) -> query.andMetaData(singletonMap("user", currentUser.get()))
+        );
+
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        currentUser.set("bob");
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        currentUser.set("alice");
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testQueriesWithoutTimeToLiveAreNotCached() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().timeToLive("greeting", Duration.ofMinutes(1)).build();
+
+        assertEquals("Bye 1", testSubject.query(query("farewell", "Axon")).get().getPayload());
+        assertEquals("Bye 2", testSubject.query(query("farewell", "Axon")).get().getPayload());
+    }
+
+    @Test
+    void testDefaultTimeToLiveAppliesToAllQueries() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().defaultTimeToLive(Duration.ofMinutes(1)).build();
+
+        assertEquals("Bye 1", testSubject.query(query("farewell", "Axon")).get().getPayload());
+        assertEquals("Bye 1", testSubject.query(query("farewell", "Axon")).get().getPayload());
+    }
+
+    @Test
+    void testExpiredResponseIsNotUsed() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().timeToLive("greeting", Duration.ofSeconds(10)).build();
+
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        now = now.plusSeconds(10);
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Axon")).get().getPayload());
+    }
+
+    @Test
+    void testExceptionalResponsesAreNotCached() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().defaultTimeToLive(Duration.ofMinutes(1)).build();
+
+        assertTrue(testSubject.query(query("failing", "Axon")).get().isExceptional());
+        assertTrue(testSubject.query(query("failing", "Axon")).get().isExceptional());
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testEmittedUpdateInvalidatesMatchingQueries() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().defaultTimeToLive(Duration.ofMinutes(1))
+                                                          .invalidateOnUpdate(true)
+                                                          .build();
+        testSubject.query(query("greeting", "Axon")).get();
+        testSubject.query(query("greeting", "Framework")).get();
+
+        testSubject.queryUpdateEmitter().emit(String.class, "Axon"::equals, "update");
+
+        assertEquals("Hello 3", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Framework")).get().getPayload());
+    }
+
+    @Test
+    void testInvalidationIsPostponedUntilUnitOfWorkIsCommitted() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().defaultTimeToLive(Duration.ofMinutes(1))
+                                                          .invalidateOnUpdate(true)
+                                                          .build();
+        testSubject.query(query("greeting", "Axon")).get();
+
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+        testSubject.queryUpdateEmitter().emit(String.class, "Axon"::equals, "update");
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        unitOfWork.commit();
+
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Axon")).get().getPayload());
+    }
+
+    @Test
+    void testUpdatesDoNotInvalidateWhenInvalidationIsDisabled() throws Exception {
+        CachingQueryBus testSubject = testSubjectBuilder().defaultTimeToLive(Duration.ofMinutes(1)).build();
+        testSubject.query(query("greeting", "Axon")).get();
+
+        testSubject.queryUpdateEmitter().emit(String.class, "Axon"::equals, "update");
+
+        assertSame(delegate.queryUpdateEmitter(), testSubject.queryUpdateEmitter());
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+    }
+
+    @Test
+    void testBuildWithoutCacheThrowsAxonConfigurationException() {
+        CachingQueryBus.Builder builder = CachingQueryBus.builder().delegate(delegate);
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+}
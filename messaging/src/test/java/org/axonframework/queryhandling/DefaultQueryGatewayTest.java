@@ -20,12 +20,18 @@
 import org.axonframework.messaging.MessageDispatchInterceptor;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.responsetypes.InstanceResponseType;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.PublisherResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.utils.MockException;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -161,6 +167,52 @@ void testPointToPointQueryWhenQueryBusThrowsException() throws Exception {
         assertEquals(expected.getMessage(), result.exceptionally(Throwable::getMessage).get());
     }
 
+    @Test
+    void testStreamingQuery() {
+        when(mockBus.streamingQuery(any())).thenReturn(Flux.just(new GenericQueryResponseMessage<>("first"),
+                                                                 new GenericQueryResponseMessage<>("second")));
+
+        Publisher<String> queryResponse = testSubject.streamingQuery("streaming", String.class);
+        verifyNoInteractions(mockBus);
+
+        StepVerifier.create(queryResponse)
+                    .expectNext("first", "second")
+                    .verifyComplete();
+
+        //noinspection unchecked
+        ArgumentCaptor<QueryMessage<String, Publisher<String>>> queryMessageCaptor =
+                ArgumentCaptor.forClass(QueryMessage.class);
+        verify(mockBus).streamingQuery(queryMessageCaptor.capture());
+        verify(mockDispatchInterceptor).handle(any());
+
+        QueryMessage<String, Publisher<String>> result = queryMessageCaptor.getValue();
+        assertEquals("streaming", result.getPayload());
+        assertEquals(String.class.getName(), result.getQueryName());
+        assertTrue(PublisherResponseType.class.isAssignableFrom(result.getResponseType().getClass()));
+        assertEquals(String.class, result.getResponseType().getExpectedResponseType());
+    }
+
+    @Test
+    void testDefaultStreamingQueryFallsBackToMultipleInstancesQuery() {
+        QueryGateway gateway = mock(QueryGateway.class);
+        when(gateway.streamingQuery(anyString(), any(), eq(String.class))).thenCallRealMethod();
+        when(gateway.query(eq("streaming"), eq("query"), any(ResponseType.class)))
+                .thenReturn(completedFuture(Arrays.asList("first", "second")));
+
+        Publisher<String> queryResponse = gateway.streamingQuery("streaming", "query", String.class);
+        verify(gateway, never()).query(anyString(), any(), any(ResponseType.class));
+
+        StepVerifier.create(queryResponse)
+                    .expectNext("first", "second")
+                    .verifyComplete();
+
+        //noinspection unchecked
+        ArgumentCaptor<ResponseType<?>> responseTypeCaptor = ArgumentCaptor.forClass(ResponseType.class);
+        verify(gateway).query(eq("streaming"), eq("query"), responseTypeCaptor.capture());
+        assertTrue(responseTypeCaptor.getValue() instanceof MultipleInstancesResponseType);
+        assertEquals(String.class, responseTypeCaptor.getValue().getExpectedResponseType());
+    }
+
     @Test
     void testScatterGatherQuery() {
         long expectedTimeout = 1L;
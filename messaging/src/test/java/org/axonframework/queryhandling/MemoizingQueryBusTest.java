@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.axonframework.eventhandling.GenericEventMessage.asEventMessage;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests validating the {@link MemoizingQueryBus}.
+ */
+class MemoizingQueryBusTest {
+
+    private AtomicInteger handlerInvocations;
+    private MemoizingQueryBus testSubject;
+
+    @BeforeEach
+    void setUp() {
+        SimpleQueryBus delegate = SimpleQueryBus.builder().build();
+        handlerInvocations = new AtomicInteger();
+        delegate.subscribe("greeting", String.class, query -> "Hello " + handlerInvocations.incrementAndGet());
+        delegate.subscribe("failing", String.class, query -> {
+            handlerInvocations.incrementAndGet();
+            throw new IllegalStateException("Failing on purpose");
+        });
+        testSubject = MemoizingQueryBus.builder().delegate(delegate).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        while (CurrentUnitOfWork.isStarted()) {
+            CurrentUnitOfWork.get().rollback();
+        }
+    }
+
+    private static QueryMessage<String, String> query(String queryName, String payload) {
+        return new GenericQueryMessage<>(payload, queryName, ResponseTypes.instanceOf(String.class));
+    }
+
+    @Test
+    void testRepeatedQueryIsMemoizedWithinUnitOfWork() throws Exception {
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Framework")).get().getPayload());
+        unitOfWork.commit();
+
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testCancellingMemoizedResponseDoesNotAffectOtherCallers() throws Exception {
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+
+        CompletableFuture<QueryResponseMessage<String>> first = testSubject.query(query("greeting", "Axon"));
+        first.cancel(true);
+        CompletableFuture<QueryResponseMessage<String>> second = testSubject.query(query("greeting", "Axon"));
+        second.obtrudeValue(new GenericQueryResponseMessage<>("Obtruded"));
+
+        assertNotSame(first, second);
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        unitOfWork.commit();
+
+        assertEquals(1, handlerInvocations.get());
+    }
+
+    @Test
+    void testConcurrentQueriesWithinUnitOfWorkAreDispatchedOnce() throws Exception {
+        CompletableFuture<QueryResponseMessage<String>> delegateResponse = new CompletableFuture<>();
+        AtomicInteger dispatches = new AtomicInteger();
+        QueryBus delegate = mock(QueryBus.class);
+        when(delegate.query(any())).thenAnswer(invocation -> {
+            dispatches.incrementAndGet();
+            return delegateResponse;
+        });
+        MemoizingQueryBus concurrentSubject = MemoizingQueryBus.builder().delegate(delegate).build();
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+        // Unit of work resources are not thread safe, so register the memoized responses upfront
+        concurrentSubject.query(query("greeting", "Warm-up"));
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CompletableFuture<QueryResponseMessage<String>>>> responses = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            responses.add(executor.submit(() -> {
+                start.await();
+                // Units of work are thread bound, so join the root unit of work of the test thread
+                CurrentUnitOfWork.set(unitOfWork);
+                try {
+                    return concurrentSubject.query(query("greeting", "Axon"));
+                } finally {
+                    CurrentUnitOfWork.clear(unitOfWork);
+                }
+            }));
+        }
+        start.countDown();
+        List<CompletableFuture<QueryResponseMessage<String>>> results = new ArrayList<>();
+        for (Future<CompletableFuture<QueryResponseMessage<String>>> response : responses) {
+            results.add(response.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        delegateResponse.complete(new GenericQueryResponseMessage<>("Hello"));
+
+        assertEquals(2, dispatches.get());
+        for (CompletableFuture<QueryResponseMessage<String>> result : results) {
+            assertEquals("Hello", result.get().getPayload());
+        }
+        unitOfWork.commit();
+    }
+
+    @Test
+    void testMemoizedResponsesAreSharedWithNestedUnitsOfWork() throws Exception {
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+        testSubject.query(query("greeting", "Axon")).get();
+
+        UnitOfWork<?> nestedUnitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("nested"));
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        nestedUnitOfWork.commit();
+        unitOfWork.commit();
+    }
+
+    @Test
+    void testMemoizedResponsesAreDiscardedWithTheUnitOfWork() throws Exception {
+        DefaultUnitOfWork.startAndGet(asEventMessage("event"))
+                         .execute(() -> testSubject.query(query("greeting", "Axon")));
+
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        unitOfWork.commit();
+    }
+
+    @Test
+    void testQueriesOutsideUnitOfWorkAreNotMemoized() throws Exception {
+        assertEquals("Hello 1", testSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 2", testSubject.query(query("greeting", "Axon")).get().getPayload());
+    }
+
+    @Test
+    void testExceptionalResponsesAreNotMemoized() throws Exception {
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+
+        assertTrue(testSubject.query(query("failing", "Axon")).get().isExceptional());
+        assertTrue(testSubject.query(query("failing", "Axon")).get().isExceptional());
+        unitOfWork.commit();
+
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testQueriesNotMatchingTheFilterAreNotMemoized() throws Exception {
+        MemoizingQueryBus filteringSubject =
+                MemoizingQueryBus.builder()
+                                 .delegate(SimpleQueryBus.builder().build())
+                                 .memoizationFilter(query -> !"greeting".equals(query.getQueryName()))
+                                 .build();
+        filteringSubject.subscribe("greeting", String.class, query -> "Hello " + handlerInvocations.incrementAndGet());
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(asEventMessage("event"));
+
+        assertEquals("Hello 1", filteringSubject.query(query("greeting", "Axon")).get().getPayload());
+        assertEquals("Hello 2", filteringSubject.query(query("greeting", "Axon")).get().getPayload());
+        unitOfWork.commit();
+    }
+
+    @Test
+    void testBuildWithoutDelegateThrowsAxonConfigurationException() {
+        MemoizingQueryBus.Builder builder = MemoizingQueryBus.builder();
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+}
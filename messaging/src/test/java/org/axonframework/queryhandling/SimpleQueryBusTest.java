@@ -27,24 +27,34 @@
 import org.axonframework.messaging.interceptors.CorrelationDataInterceptor;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.utils.MockException;
 import org.junit.jupiter.api.*;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toSet;
@@ -396,6 +406,141 @@ void testQueryUnsubscribedHandlers() throws Exception {
         verify(monitorCallback, times(1)).reportFailure(any());
     }
 
+    @Test
+    void testStreamingQueryEmitsResultsOnDemand() {
+        AtomicInteger retrievedResults = new AtomicInteger();
+        testSubject.subscribe(String.class.getName(),
+                              methodOf(getClass(), "streamingQueryHandler", String.class).getGenericReturnType(),
+                              q -> Stream.of("a", "b", "c").peek(r -> retrievedResults.incrementAndGet()));
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello, World", ResponseTypes.publisherOf(String.class));
+        Publisher<QueryResponseMessage<String>> result = testSubject.streamingQuery(testQueryMessage);
+        verifyNoInteractions(messageMonitor);
+
+        StepVerifier.create(Flux.from(result).map(Message::getPayload), 1)
+                    .expectNext("a")
+                    .then(() -> assertEquals(1, retrievedResults.get()))
+                    .thenRequest(2)
+                    .expectNext("b", "c")
+                    .verifyComplete();
+        verify(monitorCallback).reportSuccess();
+    }
+
+    @Test
+    void testStreamingQueryEmitsElementsOfListResult() {
+        testSubject.subscribe(String.class.getName(),
+                              methodOf(getClass(), "stringListQueryHandler").getGenericReturnType(),
+                              q -> Arrays.asList("a", "b"));
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello, World", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(Flux.from(testSubject.streamingQuery(testQueryMessage)).map(Message::getPayload))
+                    .expectNext("a", "b")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testStreamingQueryReportsHandlerExceptions() {
+        testSubject.subscribe(String.class.getName(), String.class, q -> {
+            throw new MockException();
+        });
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello, World", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(testSubject.streamingQuery(testQueryMessage))
+                    .expectError(MockException.class)
+                    .verify();
+    }
+
+    @Test
+    void testStreamingQueryFailsWhenNoHandlerIsAvailable() {
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello, World", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(testSubject.streamingQuery(testQueryMessage))
+                    .expectError(NoHandlerForQueryException.class)
+                    .verify();
+    }
+
+    @Test
+    void testStreamingQueryCommitsUnitOfWorkOnceResultsComplete() {
+        List<String> unitOfWorkEvents = new CopyOnWriteArrayList<>();
+        testSubject.registerHandlerInterceptor(recordingUnitOfWorkInterceptor(unitOfWorkEvents));
+        testSubject.subscribe(String.class.getName(),
+                              methodOf(getClass(), "streamingQueryHandler", String.class).getGenericReturnType(),
+                              q -> Stream.of("a", "b"));
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello, World", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(Flux.from(testSubject.streamingQuery(testQueryMessage)).map(Message::getPayload), 1)
+                    .expectNext("a")
+                    .then(() -> assertTrue(unitOfWorkEvents.isEmpty()))
+                    .thenRequest(1)
+                    .expectNext("b")
+                    .verifyComplete();
+        assertEquals(Collections.singletonList("commit"), unitOfWorkEvents);
+        assertFalse(CurrentUnitOfWork.isStarted());
+        verify(monitorCallback).reportSuccess();
+    }
+
+    @Test
+    void testStreamingQueryRollsBackUnitOfWorkWhenResultsFail() {
+        List<String> unitOfWorkEvents = new CopyOnWriteArrayList<>();
+        testSubject.registerHandlerInterceptor(recordingUnitOfWorkInterceptor(unitOfWorkEvents));
+        testSubject.subscribe(String.class.getName(),
+                              methodOf(getClass(), "streamingQueryHandler", String.class).getGenericReturnType(),
+                              q -> Flux.concat(Flux.just("a"), Flux.error(new MockException())));
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello, World", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(Flux.from(testSubject.streamingQuery(testQueryMessage)).map(Message::getPayload))
+                    .expectNext("a")
+                    .expectError(MockException.class)
+                    .verify();
+        assertEquals(Collections.singletonList("rollback"), unitOfWorkEvents);
+        assertFalse(CurrentUnitOfWork.isStarted());
+        verify(monitorCallback).reportFailure(any(MockException.class));
+    }
+
+    @Test
+    void testStreamingQueryCommitsUnitOfWorkWhenSubscriptionIsCancelled() {
+        List<String> unitOfWorkEvents = new CopyOnWriteArrayList<>();
+        testSubject.registerHandlerInterceptor(recordingUnitOfWorkInterceptor(unitOfWorkEvents));
+        testSubject.subscribe(String.class.getName(),
+                              methodOf(getClass(), "streamingQueryHandler", String.class).getGenericReturnType(),
+                              q -> Stream.of("a", "b", "c"));
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello, World", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(Flux.from(testSubject.streamingQuery(testQueryMessage)).map(Message::getPayload), 1)
+                    .expectNext("a")
+                    .thenCancel()
+                    .verify();
+        assertEquals(Collections.singletonList("commit"), unitOfWorkEvents);
+        assertFalse(CurrentUnitOfWork.isStarted());
+    }
+
+    private static MessageHandlerInterceptor<QueryMessage<?, ?>> recordingUnitOfWorkInterceptor(
+            List<String> unitOfWorkEvents
+    ) {
+        return (unitOfWork, chain) -> {
+            unitOfWork.onCommit(u -> unitOfWorkEvents.add("commit"));
+            unitOfWork.onRollback(u -> unitOfWorkEvents.add("rollback"));
+            return chain.proceed();
+        };
+    }
+
+    @SuppressWarnings("unused")
+    public Stream<String> streamingQueryHandler(String query) {
+        return Stream.empty();
+    }
+
     @Test
     void testScatterGather() {
         int expectedResults = 3;
@@ -580,6 +725,67 @@ void testScatterGatherReportsExceptionsWithErrorHandler() {
         verify(monitorCallback, times(1)).reportFailure(isA(MockException.class));
     }
 
+    @Test
+    void testScatterGatherInvokesHandlersInParallelOnConfiguredExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            testSubject = SimpleQueryBus.builder()
+                                        .messageMonitor(messageMonitor)
+                                        .scatterGatherExecutor(executor)
+                                        .build();
+            CountDownLatch bothHandlersInvoked = new CountDownLatch(2);
+            MessageHandler<QueryMessage<?, String>> handler = q -> {
+                bothHandlersInvoked.countDown();
+                assertTrue(bothHandlersInvoked.await(5, TimeUnit.SECONDS));
+                return q.getPayload() + Thread.currentThread().getName();
+            };
+            testSubject.subscribe(String.class.getName(), String.class, handler);
+            testSubject.subscribe(String.class.getName(), String.class, q -> handler.handle(q) + "!");
+
+            QueryMessage<String, String> testQueryMessage =
+                    new GenericQueryMessage<>("Hello, World", singleStringResponse);
+            List<QueryResponseMessage<String>> results =
+                    testSubject.scatterGather(testQueryMessage, 5, TimeUnit.SECONDS).collect(Collectors.toList());
+
+            assertEquals(2, results.size());
+            verify(monitorCallback, times(2)).reportSuccess();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testParallelScatterGatherReturnsPartialResultsOnTimeout() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch releaseSlowHandler = new CountDownLatch(1);
+        try {
+            testSubject = SimpleQueryBus.builder()
+                                        .errorHandler(errorHandler)
+                                        .scatterGatherExecutor(executor)
+                                        .build();
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                releaseSlowHandler.await();
+                return "slow";
+            });
+            testSubject.subscribe(String.class.getName(), String.class, q -> "fast");
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                throw new MockException();
+            });
+
+            QueryMessage<String, String> testQueryMessage =
+                    new GenericQueryMessage<>("Hello, World", singleStringResponse);
+            List<String> results = testSubject.scatterGather(testQueryMessage, 200, TimeUnit.MILLISECONDS)
+                                              .map(Message::getPayload)
+                                              .collect(Collectors.toList());
+
+            assertEquals(Collections.singletonList("fast"), results);
+            verify(errorHandler).onError(isA(MockException.class), eq(testQueryMessage), isA(MessageHandler.class));
+        } finally {
+            releaseSlowHandler.countDown();
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void testQueryResponseMessageCorrelationData() throws ExecutionException, InterruptedException {
         testSubject.subscribe(String.class.getName(), String.class, (q) -> q.getPayload() + "1234");
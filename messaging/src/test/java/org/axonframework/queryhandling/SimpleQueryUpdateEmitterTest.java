@@ -1,14 +1,24 @@
 package org.axonframework.queryhandling;
 
+import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.responsetypes.ResponseTypes;
 import org.junit.jupiter.api.*;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class validating the {@link SimpleQueryUpdateEmitter}.
@@ -158,4 +168,188 @@ void testCancelingRegistrationDoesNotCompleteFluxOfUpdates() {
                     .expectNext("some-awesome-text")
                     .verifyTimeout(Duration.ofMillis(500));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEmitByRoutingKeyOnlyReachesMatchingSubscriptions() {
+        UpdateHandlerRegistration<Object> matching =
+                testSubject.registerUpdateHandler(chatMessagesQuery("room-1"), 128);
+        UpdateHandlerRegistration<Object> otherKey =
+                testSubject.registerUpdateHandler(chatMessagesQuery("room-2"), 128);
+
+        testSubject.emit("chatMessages", "room-1", "Update");
+        testSubject.emit("otherQuery", "room-1", "Other");
+        testSubject.complete(q -> true);
+
+        StepVerifier.create(matching.getUpdates().map(Message::getPayload))
+                    .expectNext("Update")
+                    .verifyComplete();
+        StepVerifier.create(otherKey.getUpdates().map(Message::getPayload))
+                    .verifyComplete();
+    }
+
+    @Test
+    void testEmitByRoutingKeyUsesRegisteredRoutingKeyExtractor() {
+        SimpleQueryUpdateEmitter customSubject =
+                SimpleQueryUpdateEmitter.builder()
+                                        .routingKeyExtractor("chatMessages", query -> ((String) query).split("/")[0])
+                                        .build();
+        UpdateHandlerRegistration<Object> registration =
+                customSubject.registerUpdateHandler(chatMessagesQuery("room-1/latest"), 128);
+
+        customSubject.emit("chatMessages", "room-1/latest", "Ignored");
+        customSubject.emit("chatMessages", "room-1", "Update");
+        customSubject.complete(q -> true);
+
+        StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                    .expectNext("Update")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testEmitByRoutingKeyDoesNotReachCanceledSubscriptions() {
+        UpdateHandlerRegistration<Object> registration =
+                testSubject.registerUpdateHandler(chatMessagesQuery("room-1"), 128);
+
+        registration.getRegistration().cancel();
+        testSubject.emit("chatMessages", "room-1", "Update");
+
+        assertTrue(testSubject.activeSubscriptions().isEmpty());
+        StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                    .expectSubscription()
+                    .expectNoEvent(Duration.ofMillis(100))
+                    .thenCancel()
+                    .verify();
+    }
+
+    @Test
+    void testEmitByRoutingKeyWithoutRoutingKeyExtractorMatchesOnPayload() {
+        UpdateHandlerRegistration<Object> matching =
+                testSubject.registerUpdateHandler(chatMessagesQuery("room-1/latest"), 128);
+        UpdateHandlerRegistration<Object> otherPayload =
+                testSubject.registerUpdateHandler(chatMessagesQuery("room-1"), 128);
+
+        testSubject.emit("chatMessages", "room-1/latest", "Update");
+        testSubject.complete(q -> true);
+
+        StepVerifier.create(matching.getUpdates().map(Message::getPayload))
+                    .expectNext("Update")
+                    .verifyComplete();
+        StepVerifier.create(otherPayload.getUpdates().map(Message::getPayload))
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConcurrentSubscribeAndCancelDoesNotLoseRoutedSubscriptions() throws Exception {
+        SimpleQueryUpdateEmitter indexingSubject =
+                SimpleQueryUpdateEmitter.builder()
+                                        .routingKeyExtractor("chatMessages", query -> query)
+                                        .build();
+        int subscriptionCount = 500;
+        List<UpdateHandlerRegistration<Object>> retained = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < subscriptionCount; i++) {
+            boolean retain = i % 2 == 0;
+            tasks.add(executor.submit(() -> {
+                start.await();
+                UpdateHandlerRegistration<Object> registration =
+                        indexingSubject.registerUpdateHandler(chatMessagesQuery("room-1"), 128);
+                if (retain) {
+                    retained.add(registration);
+                } else {
+                    registration.getRegistration().cancel();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> task : tasks) {
+            task.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        indexingSubject.emit("chatMessages", "room-1", "Update");
+        indexingSubject.complete(q -> true);
+
+        assertEquals(subscriptionCount / 2, retained.size());
+        for (UpdateHandlerRegistration<Object> registration : retained) {
+            StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                        .expectNext("Update")
+                        .verifyComplete();
+        }
+    }
+
+    @Test
+    void testConflatedUpdatesOnlyHandOutLatestUpdatePerKey() {
+        SimpleQueryUpdateEmitter conflatingSubject =
+                SimpleQueryUpdateEmitter.builder()
+                                        .conflateUpdates("chatMessages",
+                                                         Duration.ofMillis(50),
+                                                         update -> ((String) update.getPayload()).split("-")[0])
+                                        .build();
+        UpdateHandlerRegistration<Object> registration =
+                conflatingSubject.registerUpdateHandler(chatMessagesQuery("room-1"), 128);
+
+        conflatingSubject.emit(q -> true, "alice-1");
+        conflatingSubject.emit(q -> true, "bob-1");
+        conflatingSubject.emit(q -> true, "alice-2");
+
+        StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                    .expectNext("bob-1", "alice-2")
+                    .then(() -> conflatingSubject.emit(q -> true, "alice-3"))
+                    .then(() -> conflatingSubject.complete(q -> true))
+                    .expectNext("alice-3")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testUpdatesOfOtherQueriesAreNotConflated() {
+        SimpleQueryUpdateEmitter conflatingSubject =
+                SimpleQueryUpdateEmitter.builder()
+                                        .conflateUpdates("otherQuery", Duration.ofMinutes(1))
+                                        .build();
+        UpdateHandlerRegistration<Object> registration =
+                conflatingSubject.registerUpdateHandler(chatMessagesQuery("room-1"), 128);
+
+        conflatingSubject.emit(q -> true, "Update1");
+        conflatingSubject.emit(q -> true, "Update2");
+        conflatingSubject.complete(q -> true);
+
+        StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                    .expectNext("Update1", "Update2")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConflationWindowBelowOneMillisecondIsRejected() {
+        SimpleQueryUpdateEmitter.Builder builderTestSubject = SimpleQueryUpdateEmitter.builder();
+
+        assertThrows(AxonConfigurationException.class,
+                     () -> builderTestSubject.conflateUpdates("chatMessages", Duration.ofNanos(500_000)));
+        assertThrows(AxonConfigurationException.class,
+                     () -> builderTestSubject.conflateUpdates("chatMessages", Duration.ZERO));
+    }
+
+    @Test
+    void testShutdownDoesNotShutDownProvidedConflationScheduler() {
+        ScheduledExecutorService providedScheduler = mock(ScheduledExecutorService.class);
+        SimpleQueryUpdateEmitter conflatingSubject =
+                SimpleQueryUpdateEmitter.builder()
+                                        .conflateUpdates("chatMessages", Duration.ofMillis(50))
+                                        .conflationScheduler(providedScheduler)
+                                        .build();
+
+        conflatingSubject.shutdown();
+
+        verify(providedScheduler, never()).shutdown();
+        verify(providedScheduler, never()).shutdownNow();
+    }
+
+    private static SubscriptionQueryMessage<String, List<String>, String> chatMessagesQuery(String room) {
+        return new GenericSubscriptionQueryMessage<>(room,
+                                                     "chatMessages",
+                                                     ResponseTypes.multipleInstancesOf(String.class),
+                                                     ResponseTypes.instanceOf(String.class));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization;
+
+import org.junit.jupiter.api.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link ChainingConverter}.
+ */
+class ChainingConverterTest {
+
+    private ChainingConverter testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new ChainingConverter(ChainingConverterTest.class.getClassLoader());
+    }
+
+    @Test
+    void testConvertsThroughChainOfConverters() throws Exception {
+        InputStream result = testSubject.convert("hello", String.class, InputStream.class);
+
+        byte[] bytes = new byte[5];
+        assertEquals(5, result.read(bytes));
+        assertEquals("hello", new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testRouteIsResolvedOnlyOnce() {
+        ContentTypeConverter<String, Number> stringToNumberConverter = stringToNumberConverter();
+        testSubject.registerConverter(stringToNumberConverter);
+
+        assertTrue(testSubject.canConvert(String.class, Number.class));
+        assertEquals(42, testSubject.convert("42", String.class, Number.class));
+        assertEquals(42, testSubject.convert("42", String.class, Number.class));
+
+        verify(stringToNumberConverter, times(2)).convert("42");
+        verify(stringToNumberConverter, times(1)).targetType();
+    }
+
+    @Test
+    void testRegisteringConverterClearsResolvedRoutes() {
+        assertFalse(testSubject.canConvert(String.class, Number.class));
+        assertThrows(CannotConvertBetweenTypesException.class,
+                     () -> testSubject.convert("42", String.class, Number.class));
+
+        testSubject.registerConverter(stringToNumberConverter());
+
+        assertTrue(testSubject.canConvert(String.class, Number.class));
+        assertEquals(42, testSubject.convert("42", String.class, Number.class));
+    }
+
+    @Test
+    void testRouteIsAvailableOnceRegisteredWhileOtherThreadsResolveRoutes() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            ChainingConverter converter = new ChainingConverter(ChainingConverterTest.class.getClassLoader());
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread resolver = new Thread(() -> {
+                while (running.get()) {
+                    converter.canConvert(String.class, Number.class);
+                }
+            });
+            resolver.start();
+            try {
+                converter.registerConverter(stringToNumberConverter());
+
+                assertTrue(converter.canConvert(String.class, Number.class));
+            } finally {
+                running.set(false);
+                resolver.join();
+            }
+        }
+    }
+
+    @Test
+    void testConverterSetterRegistersAllConverters() {
+        testSubject.setAdditionalConverters(Collections.singletonList(stringToNumberConverter()));
+
+        assertTrue(testSubject.canConvert(String.class, Number.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ContentTypeConverter<String, Number> stringToNumberConverter() {
+        ContentTypeConverter<String, Number> converter = mock(ContentTypeConverter.class);
+        when(converter.expectedSourceType()).thenReturn(String.class);
+        when(converter.targetType()).thenReturn(Number.class);
+        when(converter.convert(anyString())).thenAnswer(invocation -> Integer.valueOf(invocation.getArgument(0)));
+        return converter;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.compression;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.*;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link CompressingSerializer}.
+ */
+class CompressingSerializerTest {
+
+    private static final String LARGE_VALUE = String.join("", Collections.nCopies(200, "compressible-"));
+
+    private JacksonSerializer delegate;
+    private CompressingSerializer testSubject;
+
+    @BeforeEach
+    void setUp() {
+        delegate = JacksonSerializer.defaultSerializer();
+        testSubject = CompressingSerializer.builder()
+                                           .delegate(delegate)
+                                           .compressionThreshold(256)
+                                           .build();
+    }
+
+    @Test
+    void testCompressesLargePayloads() {
+        SerializedObject<byte[]> uncompressed = delegate.serialize(new Payload(LARGE_VALUE), byte[].class);
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(new Payload(LARGE_VALUE), byte[].class);
+
+        assertTrue(serialized.getData().length < uncompressed.getData().length / 10);
+        assertEquals(uncompressed.getType(), serialized.getType());
+        Payload actual = testSubject.deserialize(serialized);
+        assertEquals(LARGE_VALUE, actual.getValue());
+    }
+
+    @Test
+    void testDoesNotCompressPayloadsBelowThreshold() {
+        SerializedObject<byte[]> uncompressed = delegate.serialize(new Payload("small"), byte[].class);
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(new Payload("small"), byte[].class);
+
+        assertArrayEquals(uncompressed.getData(), serialized.getData());
+        Payload actual = testSubject.deserialize(serialized);
+        assertEquals("small", actual.getValue());
+    }
+
+    @Test
+    void testDeserializesUncompressedDataOfDelegate() {
+        SerializedObject<byte[]> uncompressed = delegate.serialize(new Payload(LARGE_VALUE), byte[].class);
+
+        Payload actual = testSubject.deserialize(uncompressed);
+
+        assertEquals(LARGE_VALUE, actual.getValue());
+    }
+
+    @Test
+    void testDeserializesCompressedByteBuffersAndInputStreams() {
+        SerializedObject<byte[]> serialized = testSubject.serialize(new Payload(LARGE_VALUE), byte[].class);
+
+        Payload fromBuffer = testSubject.deserialize(new SimpleSerializedObject<>(
+                ByteBuffer.wrap(serialized.getData()), ByteBuffer.class, serialized.getType()
+        ));
+        SerializedObject<InputStream> asStream = testSubject.serialize(new Payload(LARGE_VALUE), InputStream.class);
+        Payload fromStream = testSubject.deserialize(asStream);
+
+        assertEquals(LARGE_VALUE, fromBuffer.getValue());
+        assertEquals(LARGE_VALUE, fromStream.getValue());
+    }
+
+    @Test
+    void testSerializingToNonBinaryRepresentationIsLeftToDelegate() {
+        SerializedObject<String> serialized = testSubject.serialize(new Payload(LARGE_VALUE), String.class);
+
+        assertEquals(delegate.serialize(new Payload(LARGE_VALUE), String.class).getData(), serialized.getData());
+    }
+
+    @Test
+    void testConverterDecompressesData() {
+        SerializedObject<byte[]> uncompressed = delegate.serialize(new Payload(LARGE_VALUE), byte[].class);
+        SerializedObject<byte[]> serialized = testSubject.serialize(new Payload(LARGE_VALUE), byte[].class);
+
+        JsonNode jsonNode = testSubject.getConverter().convert(serialized, JsonNode.class).getData();
+        byte[] bytes = testSubject.getConverter().convert(serialized, byte[].class).getData();
+
+        assertEquals(LARGE_VALUE, jsonNode.get("value").asText());
+        assertArrayEquals(uncompressed.getData(), bytes);
+    }
+
+    @Test
+    void testDeserializingDataOfUnknownCodecFails() {
+        CompressingSerializer otherCodecSerializer =
+                CompressingSerializer.builder()
+                                     .delegate(delegate)
+                                     .compressionCodec(new IdentifiedDeflateCodec((byte) 42))
+                                     .build();
+        SerializedObject<byte[]> serialized = otherCodecSerializer.serialize(new Payload(LARGE_VALUE), byte[].class);
+
+        assertThrows(SerializationException.class, () -> testSubject.deserialize(serialized));
+
+        CompressingSerializer readingSerializer =
+                CompressingSerializer.builder()
+                                     .delegate(delegate)
+                                     .decompressionCodec(new IdentifiedDeflateCodec((byte) 42))
+                                     .build();
+        Payload actual = readingSerializer.deserialize(serialized);
+        assertEquals(LARGE_VALUE, actual.getValue());
+    }
+
+    @Test
+    void testBuildWithoutDelegateFails() {
+        CompressingSerializer.Builder builder = CompressingSerializer.builder();
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void testBuildWithNegativeThresholdFails() {
+        CompressingSerializer.Builder builder = CompressingSerializer.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builder.compressionThreshold(-1));
+    }
+
+    @Test
+    void testZeroThresholdCompressesSmallPayloads() {
+        String smallValue = String.join("", Collections.nCopies(5, "compressible-"));
+        testSubject = CompressingSerializer.builder()
+                                           .delegate(delegate)
+                                           .compressionThreshold(0)
+                                           .build();
+        SerializedObject<byte[]> uncompressed = delegate.serialize(new Payload(smallValue), byte[].class);
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(new Payload(smallValue), byte[].class);
+
+        assertTrue(serialized.getData().length < uncompressed.getData().length);
+        Payload actual = testSubject.deserialize(serialized);
+        assertEquals(smallValue, actual.getValue());
+    }
+
+    private static class IdentifiedDeflateCodec extends DeflateCompressionCodec {
+
+        private final byte identifier;
+
+        private IdentifiedDeflateCodec(byte identifier) {
+            this.identifier = identifier;
+        }
+
+        @Override
+        public byte getIdentifier() {
+            return identifier;
+        }
+    }
+
+    public static class Payload {
+
+        private String value;
+
+        @SuppressWarnings("unused")
+        public Payload() {
+        }
+
+        public Payload(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @SuppressWarnings("unused")
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
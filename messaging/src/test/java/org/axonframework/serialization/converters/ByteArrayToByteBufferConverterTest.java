@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.converters;
+
+import org.junit.jupiter.api.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link ByteArrayToByteBufferConverter}.
+ */
+class ByteArrayToByteBufferConverterTest {
+
+    private ByteArrayToByteBufferConverter testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new ByteArrayToByteBufferConverter();
+    }
+
+    @Test
+    void testCanConvertByteArrayToByteBuffer() {
+        assertEquals(byte[].class, testSubject.expectedSourceType());
+        assertEquals(ByteBuffer.class, testSubject.targetType());
+    }
+
+    @Test
+    void testConvertWrapsTheArrayWithoutCopying() {
+        byte[] bytes = "Hello, world!".getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer actual = testSubject.convert(bytes);
+
+        assertTrue(actual.hasArray());
+        assertSame(bytes, actual.array());
+        assertEquals(0, actual.position());
+        assertEquals(bytes.length, actual.remaining());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.converters;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link ByteBufferToInputStreamConverter}.
+ */
+class ByteBufferToInputStreamConverterTest {
+
+    private ByteBufferToInputStreamConverter testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new ByteBufferToInputStreamConverter();
+    }
+
+    @Test
+    void testConvertReadsRemainingBytesWithoutMovingBufferPosition() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(17);
+        buffer.put("--Hello, world!--".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2).limit(15);
+
+        InputStream actual = testSubject.convert(buffer);
+
+        assertEquals(13, actual.available());
+        byte[] result = new byte[32];
+        int read = actual.read(result);
+        assertEquals(13, read);
+        assertEquals("Hello, world!", new String(result, 0, read, StandardCharsets.UTF_8));
+        assertEquals(-1, actual.read());
+        assertEquals(2, buffer.position());
+    }
+}
@@ -18,27 +18,38 @@
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.serialization.AnnotationRevisionResolver;
 import org.axonframework.serialization.ChainingConverter;
 import org.axonframework.serialization.ContentTypeConverter;
 import org.axonframework.serialization.RevisionResolver;
+import org.axonframework.serialization.SerializationException;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.SimpleSerializedType;
 import org.axonframework.serialization.UnknownSerializedType;
 import org.junit.jupiter.api.*;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -225,6 +236,98 @@ void testCustomObjectMapper() {
         verify(objectMapper).writer();
     }
 
+    @Test
+    void testTypeResolutionAndReadersAreCached() {
+        ObjectMapper objectMapper = spy(new ObjectMapper());
+        RevisionResolver revisionResolver = spy(new AnnotationRevisionResolver());
+        testSubject = JacksonSerializer.builder()
+                                       .revisionResolver(revisionResolver)
+                                       .objectMapper(objectMapper)
+                                       .build();
+
+        for (int i = 0; i < 3; i++) {
+            SerializedObject<byte[]> serialized = testSubject.serialize(new SimpleSerializableType("test" + i),
+                                                                        byte[].class);
+            SimpleSerializableType actual = testSubject.deserialize(serialized);
+            assertEquals("test" + i, actual.getValue());
+        }
+
+        verify(revisionResolver).revisionOf(SimpleSerializableType.class);
+        verify(objectMapper).readerFor(SimpleSerializableType.class);
+    }
+
+    @Test
+    void testReaderIsRecreatedWhenObjectMapperConfigurationChanges() {
+        ObjectMapper objectMapper = spy(new ObjectMapper());
+        testSubject = JacksonSerializer.builder()
+                                       .objectMapper(objectMapper)
+                                       .build();
+        SerializedObject<byte[]> serialized = testSubject.serialize(new SimpleSerializableType("test"),
+                                                                    byte[].class);
+        testSubject.deserialize(serialized);
+
+        objectMapper.configure(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, true);
+        testSubject.deserialize(serialized);
+
+        verify(objectMapper, times(2)).readerFor(SimpleSerializableType.class);
+    }
+
+    @Test
+    void testUnresolvableTypesAreNotCached() throws ClassNotFoundException {
+        ObjectMapper objectMapper = spy(new ObjectMapper());
+        testSubject = JacksonSerializer.builder()
+                                       .objectMapper(objectMapper)
+                                       .build();
+        TypeFactory typeFactory = spy(objectMapper.getTypeFactory());
+        doReturn(typeFactory).when(objectMapper).getTypeFactory();
+        String typeName = SimpleSerializableType.class.getName();
+        doThrow(new ClassNotFoundException(typeName)).doCallRealMethod().when(typeFactory).findClass(typeName);
+        SerializedType serializedType = new SimpleSerializedType(typeName, null);
+
+        assertEquals(UnknownSerializedType.class, testSubject.classForType(serializedType));
+        assertEquals(SimpleSerializableType.class, testSubject.classForType(serializedType));
+        assertEquals(SimpleSerializableType.class, testSubject.classForType(serializedType));
+
+        verify(typeFactory, times(2)).findClass(typeName);
+    }
+
+    @Test
+    void testConcurrentRoundTripsShareCachedTypesAndReaders() throws Exception {
+        ObjectMapper objectMapper = spy(new ObjectMapper());
+        testSubject = JacksonSerializer.builder()
+                                       .objectMapper(objectMapper)
+                                       .build();
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        String value = Thread.currentThread().getName() + "-" + i;
+                        SerializedObject<byte[]> serialized =
+                                testSubject.serialize(new SimpleSerializableType(value), byte[].class);
+                        SimpleSerializableType actual = testSubject.deserialize(serialized);
+                        if (!value.equals(actual.getValue())) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(objectMapper, atMost(threadCount)).readerFor(SimpleSerializableType.class);
+    }
+
     @Test
     void testSerializeMetaData() {
         testSubject = JacksonSerializer.builder().build();
@@ -316,6 +419,80 @@ void testSerializeAndDeserializeObjectObjectNodeFormat() {
         assertEquals(toSerialize.getNested().getValue(), actual.getNested().getValue());
     }
 
+    @Test
+    void testDeserializeFromByteBufferSlice() {
+        SimpleSerializableType toSerialize = new SimpleSerializableType("first", time,
+                                                                        new SimpleSerializableType("nested"));
+        SerializedObject<byte[]> serialized = testSubject.serialize(toSerialize, byte[].class);
+        byte[] padded = new byte[serialized.getData().length + 8];
+        System.arraycopy(serialized.getData(), 0, padded, 4, serialized.getData().length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 4, serialized.getData().length);
+
+        SimpleSerializableType actual = testSubject.deserialize(
+                new SimpleSerializedObject<>(buffer, ByteBuffer.class, serialized.getType())
+        );
+
+        assertEquals(toSerialize.getValue(), actual.getValue());
+        assertEquals(toSerialize.getNested().getValue(), actual.getNested().getValue());
+        assertEquals(4, buffer.position());
+    }
+
+    @Test
+    void testDeserializeFromReadOnlyByteBuffer() {
+        SimpleSerializableType toSerialize = new SimpleSerializableType("first", time,
+                                                                        new SimpleSerializableType("nested"));
+        SerializedObject<byte[]> serialized = testSubject.serialize(toSerialize, byte[].class);
+        ByteBuffer buffer = ByteBuffer.wrap(serialized.getData()).asReadOnlyBuffer();
+
+        SimpleSerializableType actual = testSubject.deserialize(
+                new SimpleSerializedObject<>(buffer, ByteBuffer.class, serialized.getType())
+        );
+
+        assertEquals(toSerialize.getValue(), actual.getValue());
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testSerializeAndDeserializeObject_BinaryFormat() {
+        JacksonSerializer binarySubject = JacksonSerializer.builder().objectMapper(new CBORMapper()).build();
+        SimpleSerializableType toSerialize = new SimpleSerializableType("first", time,
+                                                                        new SimpleSerializableType("nested"));
+
+        SerializedObject<byte[]> serialized = binarySubject.serialize(toSerialize, byte[].class);
+
+        SimpleSerializableType actual = binarySubject.deserialize(serialized);
+        assertEquals(toSerialize.getValue(), actual.getValue());
+        assertEquals(toSerialize.getNested().getValue(), actual.getNested().getValue());
+        assertTrue(serialized.getData().length < testSubject.serialize(toSerialize, byte[].class).getData().length);
+    }
+
+    @Test
+    void testBinaryFormatIsConvertibleToJsonNodeForUpcasting() {
+        JacksonSerializer binarySubject = JacksonSerializer.builder().objectMapper(new CBORMapper()).build();
+        SimpleSerializableType toSerialize = new SimpleSerializableType("first", time,
+                                                                        new SimpleSerializableType("nested"));
+        SerializedObject<byte[]> serialized = binarySubject.serialize(toSerialize, byte[].class);
+
+        JsonNode jsonNode = binarySubject.getConverter().convert(serialized.getData(), byte[].class, JsonNode.class);
+        ((ObjectNode) jsonNode).put("value", "upcasted");
+        byte[] upcasted = binarySubject.getConverter().convert(jsonNode, JsonNode.class, byte[].class);
+
+        SimpleSerializableType actual = binarySubject.deserialize(
+                new SimpleSerializedObject<>(upcasted, byte[].class, serialized.getType())
+        );
+        assertEquals("upcasted", actual.getValue());
+    }
+
+    @Test
+    void testBinaryFormatCannotSerializeToString() {
+        JacksonSerializer binarySubject = JacksonSerializer.builder().objectMapper(new CBORMapper()).build();
+
+        assertFalse(binarySubject.canSerializeTo(String.class));
+        assertTrue(binarySubject.canSerializeTo(byte[].class));
+        assertTrue(binarySubject.canSerializeTo(JsonNode.class));
+        assertThrows(SerializationException.class, () -> binarySubject.serialize("some-value", String.class));
+    }
+
     public static class ComplexObject {
 
         private final String value1;
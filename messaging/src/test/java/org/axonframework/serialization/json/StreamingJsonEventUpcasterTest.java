@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.axonframework.eventhandling.EventData;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.upcasting.event.InitialEventRepresentation;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.axonframework.utils.StubDomainEvent;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link StreamingJsonEventUpcaster}.
+ */
+class StreamingJsonEventUpcasterTest {
+
+    private static final SerializedType EXPECTED_TYPE = new SimpleSerializedType(StubDomainEvent.class.getName(), "0");
+    private static final SerializedType UPCASTED_TYPE = new SimpleSerializedType(StubDomainEvent.class.getName(), null);
+
+    private JacksonSerializer serializer;
+    private RenamingUpcaster testSubject;
+
+    @BeforeEach
+    void setUp() {
+        serializer = JacksonSerializer.defaultSerializer();
+        testSubject = new RenamingUpcaster(serializer);
+    }
+
+    @Test
+    void testUpcastsPayloadAsStreamOfTokens() {
+        IntermediateEventRepresentation input = representation("{\"title\":\"snapshot\",\"size\":42}", EXPECTED_TYPE);
+
+        List<IntermediateEventRepresentation> result = testSubject.upcast(Stream.of(input)).collect(toList());
+
+        assertEquals(1, result.size());
+        IntermediateEventRepresentation upcasted = result.get(0);
+        assertEquals(UPCASTED_TYPE, upcasted.getType());
+        assertEquals(InputStream.class, upcasted.getData().getContentType());
+        StubDomainEvent actual = serializer.deserialize(upcasted.getData());
+        assertEquals("snapshot", actual.getName());
+        assertEquals(input.getMessageIdentifier(), upcasted.getMessageIdentifier());
+    }
+
+    @Test
+    void testIgnoresOtherTypes() {
+        IntermediateEventRepresentation input = representation("{\"title\":\"snapshot\"}", UPCASTED_TYPE);
+
+        List<IntermediateEventRepresentation> result = testSubject.upcast(Stream.of(input)).collect(toList());
+
+        assertEquals(Collections.singletonList(input), result);
+    }
+
+    @Test
+    void testDeclaresExpectedTypeAsUpcastableType() {
+        assertEquals(Collections.singleton(EXPECTED_TYPE), testSubject.upcastableTypes());
+    }
+
+    private IntermediateEventRepresentation representation(String json, SerializedType type) {
+        SerializedObject<byte[]> payload =
+                new SimpleSerializedObject<>(json.getBytes(StandardCharsets.UTF_8), byte[].class, type);
+        EventData<?> eventData = new GenericDomainEventEntry<>(
+                "test", "aggregateId", 0, "eventId", Instant.now(), type.getName(), type.getRevision(),
+                payload, serializer.serialize(MetaData.emptyInstance(), byte[].class)
+        );
+        return new InitialEventRepresentation(eventData, serializer);
+    }
+
+    private static class RenamingUpcaster extends StreamingJsonEventUpcaster {
+
+        private RenamingUpcaster(JacksonSerializer serializer) {
+            super(serializer.getObjectMapper(), EXPECTED_TYPE, UPCASTED_TYPE);
+        }
+
+        @Override
+        protected void upcast(JsonParser parser, JsonGenerator generator) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "title".equals(parser.getCurrentName())) {
+                    generator.writeFieldName("name");
+                } else if (token == JsonToken.FIELD_NAME && "size".equals(parser.getCurrentName())) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+    }
+}
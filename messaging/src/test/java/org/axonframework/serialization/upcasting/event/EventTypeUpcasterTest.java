@@ -25,6 +25,8 @@
 import org.axonframework.serialization.TestSerializer;
 import org.junit.jupiter.api.*;
 
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -144,6 +146,58 @@ void testUpcastedType() {
         assertEquals(expectedType, testSubject.upcastedType());
     }
 
+    @Test
+    void testUpcastableTypesContainsExpectedType() {
+        SerializedType expectedType = new SimpleSerializedType(EXPECTED_PAYLOAD_TYPE, EXPECTED_REVISION);
+        assertEquals(Collections.singleton(expectedType), testSubject.upcastableTypes());
+    }
+
+    @Test
+    void testUpcastableTypesIsUnknownWhenTypeMatchingIsOverridden() {
+        EventTypeUpcaster revisionAgnosticUpcaster =
+                new EventTypeUpcaster(EXPECTED_PAYLOAD_TYPE, EXPECTED_REVISION,
+                                      UPCASTED_PAYLOAD_TYPE, UPCASTED_REVISION) {
+                    @Override
+                    protected boolean isExpectedRevision(String revision) {
+                        return true;
+                    }
+                };
+        EventTypeUpcaster subclassOfOverridingUpcaster = new RevisionAgnosticUpcaster() {
+        };
+
+        assertNull(revisionAgnosticUpcaster.upcastableTypes());
+        assertNull(subclassOfOverridingUpcaster.upcastableTypes());
+    }
+
+    @Test
+    void testUpcastableTypesIsUnknownWhenCanUpcastIsOverridden() {
+        EventTypeUpcaster customMatchingUpcaster =
+                new EventTypeUpcaster(EXPECTED_PAYLOAD_TYPE, EXPECTED_REVISION,
+                                      UPCASTED_PAYLOAD_TYPE, UPCASTED_REVISION) {
+                    @Override
+                    protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+                        return isExpectedPayloadType(intermediateRepresentation.getType().getName());
+                    }
+                };
+
+        assertNull(customMatchingUpcaster.upcastableTypes());
+    }
+
+    @Test
+    void testUpcastableTypesContainsExpectedTypeWhenOnlyUpcastedTypeIsOverridden() {
+        EventTypeUpcaster customUpcaster =
+                new EventTypeUpcaster(EXPECTED_PAYLOAD_TYPE, EXPECTED_REVISION,
+                                      UPCASTED_PAYLOAD_TYPE, UPCASTED_REVISION) {
+                    @Override
+                    protected SerializedType upcastedType() {
+                        return new SimpleSerializedType(UPCASTED_PAYLOAD_TYPE, "3");
+                    }
+                };
+
+        SerializedType expectedType = new SimpleSerializedType(EXPECTED_PAYLOAD_TYPE, EXPECTED_REVISION);
+        assertEquals(Collections.singleton(expectedType), customUpcaster.upcastableTypes());
+    }
+
     /**
      * Test {@link AbstractEventEntry} implementation which only allows adjusting the {@code payloadType} and {@code
      * payloadRevision}. All other {@code AbstractEventEntry} parameters are defaulted.
@@ -154,4 +208,16 @@ public TestEventEntry(String payloadType, String payloadRevision) {
             super("eventIdentifier", "timestamp", payloadType, payloadRevision, "payload", "metaData");
         }
     }
-}
\ No newline at end of file
+
+    private static class RevisionAgnosticUpcaster extends EventTypeUpcaster {
+
+        public RevisionAgnosticUpcaster() {
+            super(EXPECTED_PAYLOAD_TYPE, null, UPCASTED_PAYLOAD_TYPE, UPCASTED_REVISION);
+        }
+
+        @Override
+        protected boolean isExpectedPayloadType(String payloadType) {
+            return payloadType.startsWith(EXPECTED_PAYLOAD_TYPE);
+        }
+    }
+}
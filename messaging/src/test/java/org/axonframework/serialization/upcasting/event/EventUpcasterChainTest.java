@@ -16,10 +16,19 @@
 
 package org.axonframework.serialization.upcasting.event;
 
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedType;
 import org.junit.jupiter.api.*;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +48,125 @@ void testCreateChainAndUpcast() {
         assertSame(mockRepresentation, eventUpcasterChain.upcast(Stream.of(mockRepresentation)).findFirst().get());
     }
 
+    @Test
+    void testRepresentationsOfUndeclaredTypesSkipTypeScopedUpcasters() {
+        TypeScopedUpcaster someUpcaster = new TypeScopedUpcaster(type("some", "1"), type("some", "2"));
+        TypeScopedUpcaster otherUpcaster = new TypeScopedUpcaster(type("other", null), type("other", "1"));
+        EventUpcasterChain testSubject = new EventUpcasterChain(someUpcaster, otherUpcaster);
+        IntermediateEventRepresentation unrelated = representation(type("unrelated", "1"));
+        IntermediateEventRepresentation otherRevision = representation(type("some", "0"));
+
+        List<IntermediateEventRepresentation> result =
+                testSubject.upcast(Stream.of(unrelated, otherRevision)).collect(toList());
+
+        assertEquals(asList(unrelated, otherRevision), result);
+        assertEquals(0, someUpcaster.canUpcastInvocations.get());
+        assertEquals(0, otherUpcaster.canUpcastInvocations.get());
+    }
+
+    @Test
+    void testRepresentationsOfDeclaredTypesAreOfferedToTheWholeChain() {
+        TypeScopedUpcaster someUpcaster = new TypeScopedUpcaster(type("some", "1"), type("some", "2"));
+        TypeScopedUpcaster otherUpcaster = new TypeScopedUpcaster(type("some", "2"), type("some", "3"));
+        EventUpcasterChain testSubject = new EventUpcasterChain(someUpcaster, otherUpcaster);
+        IntermediateEventRepresentation unrelated = representation(type("unrelated", "1"));
+
+        List<IntermediateEventRepresentation> result =
+                testSubject.upcast(Stream.of(representation(type("some", "1")), unrelated)).collect(toList());
+
+        assertEquals(2, result.size());
+        assertEquals(type("some", "3"), result.get(0).getType());
+        assertSame(unrelated, result.get(1));
+        assertEquals(1, someUpcaster.canUpcastInvocations.get());
+        assertEquals(1, otherUpcaster.canUpcastInvocations.get());
+    }
+
+    @Test
+    void testRepresentationsOfDeclaredTypesSkipUpcastersPrecedingTheFirstDeclaringUpcaster() {
+        TypeScopedUpcaster someUpcaster = new TypeScopedUpcaster(type("some", "1"), type("some", "2"));
+        TypeScopedUpcaster otherUpcaster = new TypeScopedUpcaster(type("other", "1"), type("some", "1"));
+        TypeScopedUpcaster laterUpcaster = new TypeScopedUpcaster(type("some", "1"), type("some", "3"));
+        EventUpcasterChain testSubject = new EventUpcasterChain(someUpcaster, otherUpcaster, laterUpcaster);
+
+        List<IntermediateEventRepresentation> result =
+                testSubject.upcast(Stream.of(representation(type("other", "1")))).collect(toList());
+
+        assertEquals(1, result.size());
+        assertEquals(type("some", "3"), result.get(0).getType());
+        assertEquals(0, someUpcaster.canUpcastInvocations.get());
+        assertEquals(1, otherUpcaster.canUpcastInvocations.get());
+        assertEquals(1, laterUpcaster.canUpcastInvocations.get());
+    }
+
+    @Test
+    void testAllRepresentationsAreOfferedWhenNotAllUpcastersDeclareTheirTypes() {
+        TypeScopedUpcaster someUpcaster = new TypeScopedUpcaster(type("some", "1"), type("some", "2"));
+        EventUpcasterChain testSubject = new EventUpcasterChain(someUpcaster, new SomeEventUpcaster());
+        IntermediateEventRepresentation unrelated = representation(type("unrelated", "1"));
+
+        List<IntermediateEventRepresentation> result = testSubject.upcast(Stream.of(unrelated)).collect(toList());
+
+        assertEquals(Collections.singletonList(unrelated), result);
+        assertEquals(1, someUpcaster.canUpcastInvocations.get());
+    }
+
+    @Test
+    void testAllRepresentationsAreOfferedWhenAnEventTypeUpcasterOverridesTypeMatching() {
+        AtomicInteger revisionChecks = new AtomicInteger();
+        EventTypeUpcaster revisionAgnosticUpcaster = new EventTypeUpcaster("some", "1", "some", "2") {
+            @Override
+            protected boolean isExpectedRevision(String revision) {
+                revisionChecks.incrementAndGet();
+                return false;
+            }
+        };
+        EventUpcasterChain testSubject = new EventUpcasterChain(revisionAgnosticUpcaster);
+        IntermediateEventRepresentation otherRevision = representation(type("some", "7"));
+
+        List<IntermediateEventRepresentation> result = testSubject.upcast(Stream.of(otherRevision)).collect(toList());
+
+        assertEquals(Collections.singletonList(otherRevision), result);
+        assertEquals(1, revisionChecks.get());
+    }
+
+    private static SerializedType type(String name, String revision) {
+        return new SimpleSerializedType(name, revision);
+    }
+
+    private static IntermediateEventRepresentation representation(SerializedType type) {
+        IntermediateEventRepresentation representation = mock(IntermediateEventRepresentation.class);
+        when(representation.getType()).thenReturn(type);
+        return representation;
+    }
+
+    private static class TypeScopedUpcaster extends SingleEventUpcaster implements TypeScopedEventUpcaster {
+
+        private final SerializedType expectedType;
+        private final SerializedType upcastedType;
+        private final AtomicInteger canUpcastInvocations = new AtomicInteger();
+
+        private TypeScopedUpcaster(SerializedType expectedType, SerializedType upcastedType) {
+            this.expectedType = expectedType;
+            this.upcastedType = upcastedType;
+        }
+
+        @Override
+        public Set<SerializedType> upcastableTypes() {
+            return Collections.singleton(expectedType);
+        }
+
+        @Override
+        protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            canUpcastInvocations.incrementAndGet();
+            return expectedType.equals(intermediateRepresentation.getType());
+        }
+
+        @Override
+        protected IntermediateEventRepresentation doUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            return representation(upcastedType);
+        }
+    }
+
     private static class SomeEventUpcaster extends SingleEventUpcaster {
 
         @Override
@@ -152,5 +152,10 @@ public Object resolveParameterValue(Message<?> message) {
         public boolean matches(Message<?> message) {
             return true;
         }
+
+        @Override
+        public boolean isConstant() {
+            return beanFactory.isSingleton(beanName);
+        }
     }
 }